@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_COMPRESS_SCREENSHOTS;
 
@@ -18,7 +19,6 @@ public class Darkroom {
     private final static Logger LOGGER = LoggerFactory.getLogger(Darkroom.class);
     private final static List<PhotoFilter> DEFAULT_PROCESSERS = Arrays.asList(new Blurer());
     private DarkroomProcessingLine processingLine;
-    private Thread screenshotThread;
     private final EnvironmentVariables environmentVariables;
 
     public void isOpenForBusiness() {
@@ -58,11 +58,14 @@ public class Darkroom {
     }
 
     public void start() {
+        this.processingLine = new DarkroomProcessingLine(getProcessors(), DarkroomWorkers.sharedPoolFor(environmentVariables));
+    }
 
-        this.processingLine = new DarkroomProcessingLine(getProcessors());
-        screenshotThread = new Thread(processingLine,"Darkroom Processing Line");
-        screenshotThread.setDaemon(true);
-        screenshotThread.start();
+    /**
+     * Queue depth and latency figures for the current processing line, if the darkroom has been opened.
+     */
+    public Optional<DarkroomMetrics> getMetrics() {
+        return Optional.ofNullable(processingLine).map(DarkroomProcessingLine::getMetrics);
     }
 
     public void terminate() {
@@ -86,7 +89,7 @@ public class Darkroom {
     private void shutdownProcessingLine() {
         processingLine.terminate();
         try {
-            screenshotThread.join();
+            processingLine.awaitTermination();
         } catch (InterruptedException e) {
             LOGGER.error("Screenshot processing interrupted",e);
         }
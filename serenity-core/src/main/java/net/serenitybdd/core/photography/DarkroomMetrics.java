@@ -0,0 +1,84 @@
+package net.serenitybdd.core.photography;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queue depth and latency figures for a darkroom processing line.
+ * The latency of a screenshot is the time between it being submitted to the darkroom and it being saved.
+ */
+public class DarkroomMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Long::max, 0);
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder processedByCallingThread = new LongAdder();
+    private final LongAdder totalLatencyInNanos = new LongAdder();
+    private final LongAccumulator maxLatencyInNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder failed = new LongAdder();
+
+    void screenshotQueued() {
+        maxQueueDepth.accumulate(queueDepth.incrementAndGet());
+    }
+
+    void screenshotDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void screenshotProcessedOnCallingThread() {
+        processedByCallingThread.increment();
+    }
+
+    void screenshotProcessed(long submittedAtNanos) {
+        long latency = System.nanoTime() - submittedAtNanos;
+        processed.increment();
+        totalLatencyInNanos.add(latency);
+        maxLatencyInNanos.accumulate(latency);
+    }
+
+    void screenshotFailed() {
+        failed.increment();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * Screenshots processed by the thread that took them, because the processing queue was full or closed.
+     */
+    public long getProcessedByCallingThreadCount() {
+        return processedByCallingThread.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getAverageLatencyInMillis() {
+        long count = processed.sum();
+        return (count == 0) ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyInNanos.sum() / count);
+    }
+
+    public long getMaxLatencyInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyInNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d screenshots processed (%d on the calling thread, %d failed), max queue depth %d, " +
+                             "average latency %d ms, max latency %d ms",
+                             getProcessedCount(), getProcessedByCallingThreadCount(), getFailedCount(), getMaxQueueDepth(),
+                             getAverageLatencyInMillis(), getMaxLatencyInMillis());
+    }
+}
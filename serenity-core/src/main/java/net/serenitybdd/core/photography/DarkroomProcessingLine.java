@@ -1,90 +1,137 @@
 package net.serenitybdd.core.photography;
 
-import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-
-public class DarkroomProcessingLine implements Runnable {
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes screenshot negatives (blurring, resizing and so on) and saves them in their final location.
+ * Negatives are queued and processed by a small pool of worker threads, shared with the other processing lines
+ * in the JVM. The queue is bounded: when it is full, or once the processing line has been closed, the negative
+ * is processed by the thread that submitted it, which slows down the tests that are producing screenshots
+ * faster than they can be processed.
+ */
+public class DarkroomProcessingLine {
 
     private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
-    boolean openForBusiness;
+    volatile boolean openForBusiness;
 
     private final List<? extends PhotoFilter> processors;
 
-    private final List<ScreenshotNegative> queue;
+    private final ScreenshotImagePipeline imagePipeline;
+
+    private final ThreadPoolExecutor workers;
+
+    private final DarkroomMetrics metrics = new DarkroomMetrics();
 
+    /**
+     * The negatives submitted to this processing line that the shared workers have not finished with yet.
+     */
+    private final AtomicInteger pendingNegatives = new AtomicInteger();
 
+    /**
+     * The workers are shared, so closing the processing line only stops it from queuing any more negatives.
+     */
     public void terminate() {
         openForBusiness = false;
+    }
 
-        synchronized (queue) {
-            queue.notifyAll();
+    /**
+     * Wait until every negative queued by this processing line has been processed.
+     */
+    public void awaitTermination() throws InterruptedException {
+        synchronized (pendingNegatives) {
+            while (pendingNegatives.get() > 0) {
+                long waitStartedAt = System.nanoTime();
+                pendingNegatives.wait(TimeUnit.MINUTES.toMillis(1));
+                if (pendingNegatives.get() > 0 && System.nanoTime() - waitStartedAt >= TimeUnit.MINUTES.toNanos(1)) {
+                    LOGGER.warn("Still waiting for {} screenshots to be processed", pendingNegatives.get());
+                }
+            }
         }
-
+        LOGGER.debug("Darkroom processing line shut down: {}", metrics);
     }
 
     DarkroomProcessingLine(List<? extends PhotoFilter> processors) {
+        this(processors, 1, 100);
+    }
+
+    DarkroomProcessingLine(List<? extends PhotoFilter> processors, int workerCount, int queueSize) {
+        this(processors, DarkroomWorkers.newPool(workerCount, queueSize));
+    }
+
+    DarkroomProcessingLine(List<? extends PhotoFilter> processors, ThreadPoolExecutor workers) {
         this.processors = processors;
-        this.queue = Collections.synchronizedList(new LinkedList<ScreenshotNegative>());
+        this.imagePipeline = new ScreenshotImagePipeline(processors, ScreenshotImageEncoder.configured());
+        this.workers = workers;
         this.openForBusiness = true;
     }
 
     public ScreenshotReceipt addToProcessingQueue(ScreenshotNegative negative) {
-        queue.add(negative);
-        synchronized (queue) {
-            queue.notifyAll();
+        long submittedAt = System.nanoTime();
+        metrics.screenshotQueued();
+        if (openForBusiness) {
+            pendingNegatives.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    try {
+                        metrics.screenshotDequeued();
+                        processAndRecord(negative, submittedAt);
+                    } finally {
+                        negativeDone();
+                    }
+                });
+                return recieptFor(negative);
+            } catch (RejectedExecutionException queueFull) {
+                negativeDone();
+            }
         }
+        metrics.screenshotDequeued();
+        metrics.screenshotProcessedOnCallingThread();
+        processAndRecord(negative, submittedAt);
         return recieptFor(negative);
     }
 
-    private ScreenshotReceipt recieptFor(ScreenshotNegative negative) {
-        return new ScreenshotReceipt(screenshotPathFor(negative));
-    }
-
-    public void run() {
-        LOGGER.debug("Darkroom processing line starting up");
-        while (openForBusiness) {
-            synchronized (queue) {
-                processNegative();
-                try {
-                    if (openForBusiness) {
-                        queue.wait();
-                    } else {
-                        finishProcessingNegatives();
-                    }
-                } catch (InterruptedException ignore) {
-                }
+    private void negativeDone() {
+        if (pendingNegatives.decrementAndGet() == 0) {
+            synchronized (pendingNegatives) {
+                pendingNegatives.notifyAll();
             }
         }
-        LOGGER.debug("Darkroom processing line shutting down");
     }
 
-    private void finishProcessingNegatives() {
-        processNegative();
+    public DarkroomMetrics getMetrics() {
+        return metrics;
     }
 
-    private void processNegative() {
-        while (!queue.isEmpty()) {
-            ScreenshotNegative negative = queue.remove(0);
-            if (negative != null) {
-                process(negative);
-            }
+    private ScreenshotReceipt recieptFor(ScreenshotNegative negative) {
+        return new ScreenshotReceipt(screenshotPathFor(negative));
+    }
+
+    private void processAndRecord(ScreenshotNegative negative, long submittedAt) {
+        try {
+            process(negative);
+            metrics.screenshotProcessed(submittedAt);
+        } catch (RuntimeException e) {
+            metrics.screenshotFailed();
+            LOGGER.warn("Failed to process screenshot", e);
         }
     }
 
     public void process(ScreenshotNegative negative) {
-        ensureThatTheDarkroomIsStillOpen();
-
         Path screenshotPath = screenshotPathFor(negative);
 
         if (!Files.exists(screenshotPath)) {
@@ -103,14 +150,12 @@ public class DarkroomProcessingLine implements Runnable {
 
     private void saveProcessedScreenshot(ScreenshotNegative negative) {
         LOGGER.debug("Processing screenshot image in {}", negative.getTemporaryPath());
-        for (PhotoFilter processor : processors) {
-            negative = processor.process(negative);
-        }
+        negative = imagePipeline.process(negative);
         try {
             LOGGER.debug("Saving screenshot to " + negative.getScreenshotPath());
             if (!Files.exists(negative.getScreenshotPath())) {
                 ensureParentDirectoryExistsFor(negative.getScreenshotPath());
-                Files.copy(negative.getTemporaryPath(), negative.getScreenshotPath(), StandardCopyOption.REPLACE_EXISTING);
+                copyIntoPlace(negative.getTemporaryPath(), negative.getScreenshotPath());
             }
         } catch (FileAlreadyExistsException noFurtherActionRequired) {
         } catch (IOException e) {
@@ -118,6 +163,24 @@ public class DarkroomProcessingLine implements Runnable {
         }
     }
 
+    /**
+     * Identical screenshots have the same name, and may be processed by different workers at the same time,
+     * so the screenshot is written to a temporary file first and then moved into place.
+     */
+    private void copyIntoPlace(Path processedScreenshot, Path screenshotPath) throws IOException {
+        Path workingCopy = screenshotPath.resolveSibling(screenshotPath.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.copy(processedScreenshot, workingCopy);
+            try {
+                Files.move(workingCopy, screenshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException atomicMoveNotSupported) {
+                Files.move(workingCopy, screenshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(workingCopy);
+        }
+    }
+
     private void ensureParentDirectoryExistsFor(Path screenshotPath) throws IOException {
         if (screenshotPath.getParent() != null) {
             Files.createDirectories(screenshotPath.getParent());
@@ -133,8 +196,4 @@ public class DarkroomProcessingLine implements Runnable {
         }
         return amendedNegative.getScreenshotPath();
     }
-
-    private void ensureThatTheDarkroomIsStillOpen() {
-        Preconditions.checkArgument(openForBusiness,"The darkroom is closed and cannot accept any more negatives");
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package net.serenitybdd.core.photography;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_DARKROOM_QUEUE_SIZE;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_DARKROOM_WORKERS;
+
+/**
+ * The worker threads shared by all the darkroom processing lines in this JVM, so that the number of threads
+ * processing screenshots does not grow with the number of test threads.
+ * The workers are daemon threads that time out when they are idle, so the pool never needs to be shut down.
+ */
+class DarkroomWorkers {
+
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final long IDLE_THREAD_TIMEOUT_IN_SECONDS = 30;
+
+    private static ThreadPoolExecutor sharedPool;
+
+    static synchronized ThreadPoolExecutor sharedPoolFor(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            sharedPool = newPool(workerCountDefinedIn(environmentVariables), queueSizeDefinedIn(environmentVariables));
+        }
+        return sharedPool;
+    }
+
+    /**
+     * When the queue is full, the pool rejects the negative and the processing line processes it on the calling thread.
+     */
+    static ThreadPoolExecutor newPool(int workerCount, int queueSize) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workerCount, workerCount,
+                                                         IDLE_THREAD_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS,
+                                                         new ArrayBlockingQueue<>(queueSize),
+                                                         new DarkroomWorkerThreadFactory(),
+                                                         new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static int workerCountDefinedIn(EnvironmentVariables environmentVariables) {
+        int defaultWorkerCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return Math.max(1, SERENITY_DARKROOM_WORKERS.integerFrom(environmentVariables, defaultWorkerCount));
+    }
+
+    private static int queueSizeDefinedIn(EnvironmentVariables environmentVariables) {
+        return Math.max(1, SERENITY_DARKROOM_QUEUE_SIZE.integerFrom(environmentVariables, DEFAULT_QUEUE_SIZE));
+    }
+
+    private static class DarkroomWorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger workerNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable worker) {
+            Thread thread = new Thread(worker, "Darkroom Processing Line " + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package net.serenitybdd.core.photography;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A photo filter that can work directly on a decoded image.
+ * When several of these filters are applied to the same screenshot, the screenshot is decoded and encoded only once.
+ */
+public interface DecodedImageFilter extends PhotoFilter {
+
+    /**
+     * Does this filter need to change the image of this screenshot?
+     */
+    boolean changesImageOf(ScreenshotNegative negative);
+
+    /**
+     * Returns the filtered image, which may be the original image if no change was needed.
+     */
+    BufferedImage filter(BufferedImage image, ScreenshotNegative negative);
+
+    default ScreenshotNegative process(ScreenshotNegative negative) {
+        return ScreenshotImagePipeline.forFilters(this).process(negative);
+    }
+}
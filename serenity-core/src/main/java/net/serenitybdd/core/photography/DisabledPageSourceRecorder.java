@@ -8,7 +8,7 @@ import java.util.Optional;
 
 public class DisabledPageSourceRecorder extends PageSourceRecorder {
     public DisabledPageSourceRecorder(WebDriver driver) {
-        super(driver);
+        super(driver, null, null);
     }
 
     @Override
@@ -7,43 +7,52 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
+/**
+ * Records the page source of the current page. Only fetching the page source happens on the calling thread:
+ * the file is saved in the background by the PageSourceWriter, and the returned file is where it will be saved.
+ */
 public class PageSourceRecorder {
     private final WebDriver driver;
+    private final PageSourceWriter pageSourceWriter;
+    private final PendingPageSourceWrites pendingWrites;
 
     private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
     public PageSourceRecorder(WebDriver driver) {
+        this(driver, new PendingPageSourceWrites());
+    }
+
+    public PageSourceRecorder(WebDriver driver, PendingPageSourceWrites pendingWrites) {
+        this(driver, PageSourceWriter.shared(), pendingWrites);
+    }
+
+    PageSourceRecorder(WebDriver driver, PageSourceWriter pageSourceWriter, PendingPageSourceWrites pendingWrites) {
         this.driver = driver;
+        this.pageSourceWriter = pageSourceWriter;
+        this.pendingWrites = pendingWrites;
     }
 
     public Optional<File> intoDirectory(Path path) {
-        byte[] pageSource = getPageSource();
-        if (WebDriverFactory.isAlive(driver) && (pageSource.length > 0)) {
-            try {
-                Path pageSourceFile = Files.createTempFile(path, "pagesource", ".html.txt");
-                Files.write(pageSourceFile, pageSource);
-                return Optional.of(pageSourceFile.toFile());
-            } catch (IOException couldNotCreatePageSourcce) {
-                LOGGER.warn("Could not save the page source HTML file", couldNotCreatePageSourcce);
-            }
+        if (!WebDriverFactory.isAlive(driver)) {
+            return Optional.empty();
+        }
+        String pageSource = getPageSource();
+        if (pageSource.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(pageSourceWriter.write(pageSource, path, pendingWrites).toFile());
     }
 
-    private byte[] getPageSource() {
+    private String getPageSource() {
         try {
             String ps = driver.getPageSource();
-            if (ps == null) { return new byte[]{}; }
-            return ps.getBytes(StandardCharsets.UTF_8);
+            return (ps == null) ? "" : ps;
         } catch(Exception e) {
             LOGGER.warn("Failed to get page source", e);
-            return new byte[]{};
+            return "";
         }
     }
 }
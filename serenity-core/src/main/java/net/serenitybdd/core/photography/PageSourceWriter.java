@@ -0,0 +1,140 @@
+package net.serenitybdd.core.photography;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Saves recorded page sources in the background, so that the test thread only has to fetch the page source from the browser.
+ * Each page source is given a random file name, so the name of the file is known (and can be recorded in the test outcome)
+ * before it is written. The writer works out a digest of each page source, and a page source identical to one
+ * it has already saved is linked to the saved file rather than written out again.
+ * As with the darkroom, the queue is bounded: when it is full, the page source is saved by the test thread itself.
+ */
+public class PageSourceWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PageSourceWriter.class);
+
+    private static final int QUEUE_SIZE = 50;
+
+    private static final int MAX_REMEMBERED_PAGE_SOURCES = 1000;
+
+    private static PageSourceWriter sharedWriter;
+
+    private final ThreadPoolExecutor writers;
+
+    /**
+     * The file each recently saved page source was saved in, by digest.
+     */
+    private final Map<String, Path> savedPageSources = Collections.synchronizedMap(
+            new LinkedHashMap<String, Path>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Path> eldest) {
+                    return size() > MAX_REMEMBERED_PAGE_SOURCES;
+                }
+            });
+
+    PageSourceWriter() {
+        this.writers = new ThreadPoolExecutor(1, 1,
+                                              1L, TimeUnit.SECONDS,
+                                              new ArrayBlockingQueue<>(QUEUE_SIZE),
+                                              new PageSourceWriterThreadFactory(),
+                                              new ThreadPoolExecutor.CallerRunsPolicy());
+        this.writers.allowCoreThreadTimeOut(true);
+    }
+
+    public static synchronized PageSourceWriter shared() {
+        if (sharedWriter == null) {
+            sharedWriter = new PageSourceWriter();
+        }
+        return sharedWriter;
+    }
+
+    /**
+     * Queue a page source to be saved in the given directory, and return the path of the file it will be saved in.
+     * The write is added to the given pending writes, so that the caller can wait for it to finish.
+     */
+    public Path write(String pageSource, Path directory, PendingPageSourceWrites pendingWrites) {
+        Path pageSourceFile = directory.resolve(newFilename());
+        FutureTask<Void> pageSourceWrite = new FutureTask<>(() -> saveAndForget(pageSource, pageSourceFile), null);
+        pendingWrites.add(pageSourceWrite);
+        writers.execute(pageSourceWrite);
+        return pageSourceFile;
+    }
+
+    private static String newFilename() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("pagesource%016x%016x.html.txt", random.nextLong(), random.nextLong());
+    }
+
+    private void saveAndForget(String pageSource, Path pageSourceFile) {
+        try {
+            String digest = DigestUtils.sha256Hex(pageSource);
+            Path identicalPageSource = savedPageSources.get(digest);
+            if (identicalPageSource == null || !linked(pageSourceFile, identicalPageSource)) {
+                save(pageSource, pageSourceFile);
+                savedPageSources.put(digest, pageSourceFile);
+            }
+        } catch (IOException couldNotSavePageSource) {
+            LOGGER.warn("Could not save the page source HTML file", couldNotSavePageSource);
+        }
+    }
+
+    private void save(String pageSource, Path pageSourceFile) throws IOException {
+        Path workingCopy = pageSourceFile.resolveSibling(pageSourceFile.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(workingCopy)) {
+                out.write(pageSource.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                Files.move(workingCopy, pageSourceFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException atomicMoveNotSupported) {
+                Files.move(workingCopy, pageSourceFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(workingCopy);
+        }
+    }
+
+    /**
+     * Not every file system supports hard links, and the saved file may have been deleted since,
+     * in which case the page source is written out again.
+     */
+    private boolean linked(Path pageSourceFile, Path identicalPageSource) {
+        try {
+            Files.createLink(pageSourceFile, identicalPageSource);
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException couldNotLink) {
+            return false;
+        }
+    }
+
+    /**
+     * The writer threads are daemon threads, so that they never keep the JVM running: the step listeners wait for the
+     * page sources they queued before the test run finishes.
+     */
+    private static class PageSourceWriterThreadFactory implements ThreadFactory {
+        private final AtomicInteger writerNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable writer) {
+            Thread writerThread = new Thread(writer, "Page Source Writer " + writerNumber.incrementAndGet());
+            writerThread.setDaemon(true);
+            return writerThread;
+        }
+    }
+}
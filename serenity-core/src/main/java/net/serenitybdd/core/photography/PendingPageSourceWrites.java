@@ -0,0 +1,42 @@
+package net.serenitybdd.core.photography;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * The page sources one step listener has queued to be saved, so that it can wait for its own page sources
+ * without waiting for those of tests running in parallel.
+ */
+public class PendingPageSourceWrites {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PendingPageSourceWrites.class);
+
+    private final Set<Future<?>> pendingWrites = ConcurrentHashMap.newKeySet();
+
+    void add(Future<?> pageSourceWrite) {
+        pendingWrites.removeIf(Future::isDone);
+        pendingWrites.add(pageSourceWrite);
+    }
+
+    /**
+     * Wait until every page source queued so far has been saved.
+     */
+    public void await() {
+        for (Future<?> pendingWrite : pendingWrites) {
+            try {
+                pendingWrite.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOGGER.warn("Could not save the page source HTML file", e.getCause());
+            }
+            pendingWrites.remove(pendingWrite);
+        }
+    }
+}
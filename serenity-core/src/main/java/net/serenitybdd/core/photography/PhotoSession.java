@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static net.serenitybdd.core.photography.ScreenshotNegative.prepareNegativeIn;
 
@@ -25,11 +26,15 @@ public class PhotoSession {
     private final Darkroom darkroom;
     private BlurLevel blurLevel;
     private EnvironmentVariables environmentVariables;
+    private final int similarityThreshold;
 
     private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
     private static ThreadLocal<ScreenshotPhoto> previousScreenshot = new ThreadLocal<>();
     private static ThreadLocal<Long> previousScreenshotTimestamp = ThreadLocal.withInitial(() -> 0L);
+    private static ThreadLocal<ScreenshotFingerprint> previousFingerprint = new ThreadLocal<>();
+
+    private static final int NO_SIMILARITY_CHECK = -1;
 
     private static final String BLANK_SCREEN = "c118a2e3019c996cb56584ec6f8cd0b2be4c056ce4ae6b83de3c32c2e364cc61.png";
 
@@ -39,6 +44,7 @@ public class PhotoSession {
         this.blurLevel = blurLevel;
         this.darkroom = darkroom;
         this.environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+        this.similarityThreshold = ThucydidesSystemProperty.SERENITY_SCREENSHOT_SIMILARITY_THRESHOLD.integerFrom(environmentVariables, NO_SIMILARITY_CHECK);
 
         darkroom.isOpenForBusiness();
     }
@@ -65,9 +71,15 @@ public class PhotoSession {
             return ScreenshotPhoto.None;
         }
 
+        Optional<ScreenshotFingerprint> fingerprint = fingerprintOf(screenshotData);
+        if (looksLikeThePreviousScreenshot(fingerprint)) {
+            return previousScreenshot.get();
+        }
+
         photo = storedScreenshot(screenshotData);
         previousScreenshot.set(photo);
         previousScreenshotTimestamp.set(System.currentTimeMillis());
+        previousFingerprint.set(fingerprint.orElse(null));
 
         return photo;
     }
@@ -82,6 +94,30 @@ public class PhotoSession {
         return false;
     }
 
+    private Optional<ScreenshotFingerprint> fingerprintOf(byte[] screenshotData) {
+        if (similarityThreshold == NO_SIMILARITY_CHECK) {
+            return Optional.empty();
+        }
+        return ScreenshotFingerprint.forScreenshotData(screenshotData);
+    }
+
+    /**
+     * Screenshots that are almost identical to the last one saved (a blinking cursor, a spinner...)
+     * reuse the previous screenshot rather than being processed and saved again.
+     */
+    private boolean looksLikeThePreviousScreenshot(Optional<ScreenshotFingerprint> fingerprint) {
+        ScreenshotPhoto lastPhoto = previousScreenshot.get();
+        ScreenshotFingerprint lastFingerprint = previousFingerprint.get();
+        if (!fingerprint.isPresent() || lastFingerprint == null || !wasSavedInThisOutputDirectory(lastPhoto)) {
+            return false;
+        }
+        return fingerprint.get().isSimilarTo(lastFingerprint, similarityThreshold);
+    }
+
+    private boolean wasSavedInThisOutputDirectory(ScreenshotPhoto photo) {
+        return (photo != null) && (photo.getPathToScreenshot() != null)
+                && outputDirectory.equals(photo.getPathToScreenshot().getParent());
+    }
 
     private boolean tooSoonForNewPhoto() {
         long previousPhotoTaken = previousScreenshotTimestamp.get();
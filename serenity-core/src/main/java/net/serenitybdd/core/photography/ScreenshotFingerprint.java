@@ -0,0 +1,118 @@
+package net.serenitybdd.core.photography;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * A perceptual fingerprint (a difference hash, or dHash) of a screenshot.
+ * The screenshot is reduced to a 9x8 grayscale thumbnail, and each of the 64 bits records whether a pixel
+ * is brighter than its right-hand neighbour. Screenshots that look the same to a human (for example,
+ * that only differ by a blinking cursor or a spinner) have fingerprints that differ by only a few bits.
+ */
+public class ScreenshotFingerprint {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    /**
+     * The screenshot is subsampled while it is decoded, so that it is never fully expanded in memory.
+     */
+    private static final int DECODED_WIDTH = 144;
+
+    private final long hash;
+
+    ScreenshotFingerprint(long hash) {
+        this.hash = hash;
+    }
+
+    public static Optional<ScreenshotFingerprint> forScreenshotData(byte[] screenshotData) {
+        try {
+            return decodedThumbnailOf(screenshotData).map(ScreenshotFingerprint::forImage);
+        } catch (IOException | RuntimeException notAReadableImage) {
+            return Optional.empty();
+        }
+    }
+
+    static ScreenshotFingerprint forImage(BufferedImage image) {
+        BufferedImage thumbnail = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (brightnessAt(thumbnail, x, y) > brightnessAt(thumbnail, x + 1, y)) {
+                    hash |= 1;
+                }
+            }
+        }
+        return new ScreenshotFingerprint(hash);
+    }
+
+    /**
+     * The number of bits that differ between the two fingerprints (from 0 to 64).
+     */
+    public int distanceFrom(ScreenshotFingerprint otherFingerprint) {
+        return Long.bitCount(hash ^ otherFingerprint.hash);
+    }
+
+    public boolean isSimilarTo(ScreenshotFingerprint otherFingerprint, int maximumDistance) {
+        return distanceFrom(otherFingerprint) <= maximumDistance;
+    }
+
+    private static int brightnessAt(BufferedImage thumbnail, int x, int y) {
+        return thumbnail.getRaster().getSample(x, y, 0);
+    }
+
+    private static Optional<BufferedImage> decodedThumbnailOf(byte[] screenshotData) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(screenshotData))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / DECODED_WIDTH);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return Optional.of(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScreenshotFingerprint that = (ScreenshotFingerprint) o;
+        return hash == that.hash;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", hash);
+    }
+}
@@ -0,0 +1,85 @@
+package net.serenitybdd.core.photography;
+
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_SCREENSHOT_COMPRESSION_LEVEL;
+
+/**
+ * Reads and writes the PNG images of processed screenshots.
+ * The PNG compression level (0 to 9) can be lowered with serenity.screenshot.compression.level
+ * to trade disk space for CPU time, on JVMs whose PNG writer supports it.
+ */
+public class ScreenshotImageEncoder {
+
+    private final Optional<Integer> compressionLevel;
+
+    ScreenshotImageEncoder(Optional<Integer> compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public static ScreenshotImageEncoder fromEnvironment(EnvironmentVariables environmentVariables) {
+        int compressionLevel = SERENITY_SCREENSHOT_COMPRESSION_LEVEL.integerFrom(environmentVariables, -1);
+        return new ScreenshotImageEncoder((compressionLevel < 0) ? Optional.empty() : Optional.of(Math.min(compressionLevel, 9)));
+    }
+
+    public static ScreenshotImageEncoder configured() {
+        return fromEnvironment(ConfiguredEnvironment.getEnvironmentVariables());
+    }
+
+    /**
+     * Returns null if the file does not contain an image that can be decoded.
+     */
+    public BufferedImage read(Path imagePath) throws IOException {
+        try (InputStream imageStream = Files.newInputStream(imagePath)) {
+            return ImageIO.read(imageStream);
+        }
+    }
+
+    public void write(BufferedImage image, Path imagePath) throws IOException {
+        ImageWriter writer = pngWriter();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(imagePath));
+             ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), writeParamsFor(writer));
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private ImageWriter pngWriter() throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+        if (!writers.hasNext()) {
+            throw new IOException("No PNG image writer available");
+        }
+        return writers.next();
+    }
+
+    private ImageWriteParam writeParamsFor(ImageWriter writer) {
+        ImageWriteParam params = writer.getDefaultWriteParam();
+        if (compressionLevel.isPresent() && params.canWriteCompressed()) {
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            if (params.getCompressionTypes() != null && params.getCompressionTypes().length > 0) {
+                params.setCompressionType(params.getCompressionTypes()[0]);
+            }
+            // A higher compression quality means less (and faster) compression
+            params.setCompressionQuality(1.0f - compressionLevel.get() / 9.0f);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,94 @@
+package net.serenitybdd.core.photography;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies a series of photo filters to a screenshot negative.
+ * Consecutive filters that work on decoded images share the same decoded image, so the screenshot is read once
+ * before the first of these filters and written once after the last one, rather than once per filter.
+ */
+public class ScreenshotImagePipeline {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
+
+    private final List<? extends PhotoFilter> filters;
+    private final ScreenshotImageEncoder encoder;
+
+    public ScreenshotImagePipeline(List<? extends PhotoFilter> filters, ScreenshotImageEncoder encoder) {
+        this.filters = filters;
+        this.encoder = encoder;
+    }
+
+    public static ScreenshotImagePipeline forFilters(PhotoFilter... filters) {
+        return new ScreenshotImagePipeline(Arrays.asList(filters), ScreenshotImageEncoder.configured());
+    }
+
+    public ScreenshotNegative process(ScreenshotNegative negative) {
+        DecodedImage image = new DecodedImage(negative);
+        for (PhotoFilter filter : filters) {
+            if (filter instanceof DecodedImageFilter) {
+                image.applyFilter((DecodedImageFilter) filter, negative);
+                negative = negative.withScreenshotPath(filter.amendedScreenshotPath(negative));
+            } else {
+                image.saveChanges();
+                negative = filter.process(negative);
+                image = new DecodedImage(negative);
+            }
+        }
+        image.saveChanges();
+        return negative;
+    }
+
+    /**
+     * The screenshot image, decoded the first time a filter needs it.
+     */
+    private class DecodedImage {
+        private final ScreenshotNegative negative;
+        private BufferedImage image;
+        private boolean decodingFailed = false;
+        private boolean modified = false;
+
+        DecodedImage(ScreenshotNegative negative) {
+            this.negative = negative;
+        }
+
+        void applyFilter(DecodedImageFilter filter, ScreenshotNegative currentNegative) {
+            if (decodingFailed || !filter.changesImageOf(currentNegative)) {
+                return;
+            }
+            try {
+                if (image == null) {
+                    image = encoder.read(negative.getTemporaryPath());
+                }
+                if (image == null) {
+                    decodingFailed = true;
+                    LOGGER.warn("Could not read screenshot image in {}", negative.getTemporaryPath());
+                    return;
+                }
+                BufferedImage filteredImage = filter.filter(image, currentNegative);
+                modified = modified || (filteredImage != image);
+                image = filteredImage;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to apply {} to screenshot", filter.getClass().getSimpleName(), e);
+            }
+        }
+
+        void saveChanges() {
+            if (!modified) {
+                return;
+            }
+            try {
+                encoder.write(image, negative.getTemporaryPath());
+                modified = false;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Could not save processed screenshot", e);
+            }
+        }
+    }
+}
@@ -7,12 +7,21 @@ public class SoundEngineer {
 
     private boolean recordPageSource = true;
 
+    private final PendingPageSourceWrites pendingWrites = new PendingPageSourceWrites();
+
     public SoundEngineer ifRequiredForResult(TestResult result) {
         recordPageSource = (result == TestResult.FAILURE || result == TestResult.ERROR);
         return this;
     }
 
     public PageSourceRecorder recordPageSourceUsing(WebDriver driver) {
-        return (recordPageSource) ? new PageSourceRecorder(driver) : new DisabledPageSourceRecorder(driver);
+        return (recordPageSource) ? new PageSourceRecorder(driver, pendingWrites) : new DisabledPageSourceRecorder(driver);
+    }
+
+    /**
+     * Wait until the page sources recorded so far have been saved.
+     */
+    public void waitForPageSourcesToBeSaved() {
+        pendingWrites.await();
     }
 }
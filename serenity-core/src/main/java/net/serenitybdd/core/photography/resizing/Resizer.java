@@ -1,31 +1,22 @@
 package net.serenitybdd.core.photography.resizing;
 
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
-import net.serenitybdd.core.photography.PhotoFilter;
+import net.serenitybdd.core.photography.DecodedImageFilter;
 import net.serenitybdd.core.photography.ScreenshotNegative;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.openqa.selenium.Dimension;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static net.thucydides.core.ThucydidesSystemProperty.DEFAULT_WIDTH;
 import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_RESIZED_IMAGE_WIDTH;
 
-public class Resizer implements PhotoFilter {
+public class Resizer implements DecodedImageFilter {
 
     private final EnvironmentVariables environmentVariables;
 
-    private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
-
     public Resizer() {
         this.environmentVariables = ConfiguredEnvironment.getEnvironmentVariables();
     }
@@ -35,33 +26,20 @@ public class Resizer implements PhotoFilter {
         return negative.getScreenshotPath();
     }
 
-    public ScreenshotNegative process(ScreenshotNegative negative) {
-
-        ScreenshotNegative amendedNegative = negative.withScreenshotPath(amendedScreenshotPath(negative));
-        try {
-            saveResizedScreenshotTo(amendedNegative.getTemporaryPath());
-        } catch (IOException e) {
-            LOGGER.warn("Could not save resized screenshot", e);
-        }
-        return amendedNegative;
+    @Override
+    public boolean changesImageOf(ScreenshotNegative negative) {
+        return true;
     }
 
-    private void saveResizedScreenshotTo(Path temporaryPath) throws IOException {
-        BufferedImage resizedImage;
-        try (InputStream images = Files.newInputStream(temporaryPath)) {
-            BufferedImage image = ImageIO.read(images);
-
-            Dimension imageSize = sizeOf(image);
-            Dimension targetSize = targetSizeInProportionTo(imageSize);
+    @Override
+    public BufferedImage filter(BufferedImage image, ScreenshotNegative negative) {
+        Dimension imageSize = sizeOf(image);
+        Dimension targetSize = targetSizeInProportionTo(imageSize);
 
-            if (imageSize.equals(targetSize)) {
-                return;
-            }
-            resizedImage = resize(image, targetSize.width, targetSize.height);
-        }
-        try (OutputStream resizedImageStream = Files.newOutputStream(temporaryPath)) {
-            ImageIO.write(resizedImage, "png", resizedImageStream);
+        if (imageSize.equals(targetSize)) {
+            return image;
         }
+        return resize(image, targetSize.width, targetSize.height);
     }
 
     private Dimension targetSizeInProportionTo(Dimension imageSize) {
@@ -71,7 +49,7 @@ public class Resizer implements PhotoFilter {
     }
 
     private Dimension sizeOf(BufferedImage image) {
-        return new Dimension(image.getData().getWidth(), image.getData().getHeight());
+        return new Dimension(image.getWidth(), image.getHeight());
     }
 
     private BufferedImage resize(BufferedImage image, int width, int height) {
@@ -0,0 +1,30 @@
+package net.serenitybdd.core.steps;
+
+/**
+ * Keeps track of whether the current thread is performing a silent task, so that nested steps can be kept out of
+ * the reports without having to look for the silent task in the stack trace each time a step is called.
+ */
+public class SilentSteps {
+
+    private static final ThreadLocal<int[]> SILENT_TASK_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private SilentSteps() {}
+
+    /**
+     * Call this before performing a silent task, and call end() in a finally block once it is done.
+     */
+    public static void begin() {
+        SILENT_TASK_DEPTH.get()[0]++;
+    }
+
+    public static void end() {
+        int[] depth = SILENT_TASK_DEPTH.get();
+        if (depth[0] > 0) {
+            depth[0]--;
+        }
+    }
+
+    public static boolean areInProgress() {
+        return SILENT_TASK_DEPTH.get()[0] > 0;
+    }
+}
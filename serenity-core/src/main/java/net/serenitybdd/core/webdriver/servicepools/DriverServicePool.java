@@ -11,12 +11,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_DRIVER_SERVICE_POOL_SIZE;
+
+/**
+ * The driver services (e.g. chromedriver processes) used to create browser sessions for one type of driver.
+ * There are webdriver.driver.service.pool.size services for each type (one by default), shared by all the threads
+ * in the JVM, and new sessions are placed on each service in turn.
+ */
 public abstract class DriverServicePool<T extends DriverService> {
 
-    private static final ConcurrentMap<String, DriverService> DRIVER_SERVICES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, List<DriverServiceSlot<?>>> DRIVER_SERVICES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, AtomicInteger> NEXT_SERVICE = new ConcurrentHashMap<>();
 
     protected final EnvironmentVariables environmentVariables;
 
@@ -24,6 +36,14 @@ public abstract class DriverServicePool<T extends DriverService> {
 
     protected abstract String serviceName();
 
+    /**
+     * Whether each driver service runs a separate driver process for each thread that uses it, and so restarts
+     * the calling thread's process itself if it has crashed (as the ThreadsafeGeckoDriverService does).
+     */
+    protected boolean runsOneServicePerThread() {
+        return false;
+    }
+
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
@@ -41,48 +61,68 @@ public abstract class DriverServicePool<T extends DriverService> {
         this.environmentVariables = environmentVariables;
     }
 
+    /**
+     * The driver service that the next session will be placed on.
+     */
     protected T getDriverService() {
-        return driverServiceWithName(serviceName());
+        return nextSlot().service();
     }
 
-    private T driverServiceWithName(String serviceName) {
+    @SuppressWarnings("unchecked")
+    private List<DriverServiceSlot<T>> slots() {
+        return (List) DRIVER_SERVICES.computeIfAbsent(serviceName(), this::newSlots);
+    }
 
-        if (DRIVER_SERVICES.get(serviceName) != null) {
-            return (T) DRIVER_SERVICES.get(serviceName);
+    private List<DriverServiceSlot<?>> newSlots(String serviceName) {
+        int poolSize = Math.max(WEBDRIVER_DRIVER_SERVICE_POOL_SIZE.integerFrom(environmentVariables, 1), 1);
+        List<DriverServiceSlot<?>> slots = new ArrayList<>();
+        for (int i = 0; i < poolSize; i++) {
+            slots.add(new DriverServiceSlot<>(serviceName, this::newDriverService, runsOneServicePerThread()));
         }
+        return Collections.unmodifiableList(slots);
+    }
 
-        DRIVER_SERVICES.putIfAbsent(serviceName, newDriverService());
-
-        return (T) DRIVER_SERVICES.get(serviceName);
+    private DriverServiceSlot<T> nextSlot() {
+        List<DriverServiceSlot<T>> slots = slots();
+        int next = NEXT_SERVICE.computeIfAbsent(serviceName(), name -> new AtomicInteger()).getAndIncrement();
+        return slots.get(Math.floorMod(next, slots.size()));
     }
 
-    public synchronized void start() throws IOException {
-        if (!getDriverService().isRunning()) {
-            getDriverService().start();
+    public void start() throws IOException {
+        for (DriverServiceSlot<T> slot : slots()) {
+            slot.runningService();
         }
     }
 
-    public synchronized void shutdown() {
-        if (getDriverService().isRunning()) {
-            getDriverService().stop();
+    public void shutdown() {
+        for (DriverServiceSlot<T> slot : slots()) {
+            slot.stop();
         }
     }
 
+    /**
+     * Create a session on the next driver service in the pool. If a service cannot be reached, the session is
+     * tried on the other services before falling back on a driver that does not use the pool.
+     */
     public WebDriver newDriver(Capabilities capabilities) {
-        try {
-            logger.debug("Creating new driver instance with capabilities: {}", capabilities);
-            return new RemoteWebDriver(getDriverService().getUrl(), capabilities);
-        } catch (WebDriverException couldNotReachDriverService) {
-            logger.warn("Remote driver creation failed ({}), falling back on default driver creation", couldNotReachDriverService.getMessage().split("\n")[0]);
-            return newDriverInstance(capabilities);
+        logger.debug("Creating new driver instance with capabilities: {}", capabilities);
+        String lastFailure = "";
+        for (int attempt = 0; attempt < slots().size(); attempt++) {
+            try {
+                return new RemoteWebDriver(nextSlot().runningService().getUrl(), capabilities);
+            } catch (WebDriverException | IOException couldNotReachDriverService) {
+                lastFailure = String.valueOf(couldNotReachDriverService.getMessage()).split("\n")[0];
+            }
         }
+        logger.warn("Remote driver creation failed ({}), falling back on default driver creation", lastFailure);
+        return newDriverInstance(capabilities);
     }
 
     public boolean isRunning() {
-        return getDriverService().isRunning();
+        return slots().stream().allMatch(DriverServiceSlot::isRunning);
     }
 
     public void ensureServiceIsRunning() throws IOException {
         start();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package net.serenitybdd.core.webdriver.servicepools;
+
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * One of the driver services in a driver service pool. Each slot is started and stopped independently, so a slow or
+ * crashed service only affects the sessions that were placed on it. A service that stops running after it has been
+ * started is replaced by a new one the next time a session needs it.
+ * Services that run a separate driver process for each thread only report on the calling thread's process, so they
+ * are never replaced here: they restart a crashed process themselves when they are started again.
+ */
+class DriverServiceSlot<T extends DriverService> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DriverServiceSlot.class);
+
+    private final String serviceName;
+    private final Supplier<T> newDriverService;
+    private final boolean oneServicePerThread;
+
+    private T driverService;
+    private boolean started;
+
+    DriverServiceSlot(String serviceName, Supplier<T> newDriverService) {
+        this(serviceName, newDriverService, false);
+    }
+
+    DriverServiceSlot(String serviceName, Supplier<T> newDriverService, boolean oneServicePerThread) {
+        this.serviceName = serviceName;
+        this.newDriverService = newDriverService;
+        this.oneServicePerThread = oneServicePerThread;
+    }
+
+    synchronized T service() {
+        if (driverService == null) {
+            driverService = newDriverService.get();
+        }
+        return driverService;
+    }
+
+    /**
+     * The driver service for this slot, started (or restarted, if it has crashed) if need be.
+     */
+    synchronized T runningService() throws IOException {
+        T service = service();
+        if (!service.isRunning()) {
+            if (started && !oneServicePerThread) {
+                service = replaceCrashed(service);
+            }
+            service.start();
+            started = true;
+        }
+        return service;
+    }
+
+    private T replaceCrashed(T crashedService) {
+        LOGGER.warn("The {} driver service at {} is no longer running, starting a new one", serviceName, crashedService.getUrl());
+        try {
+            crashedService.stop();
+        } catch (RuntimeException alreadyStopped) {
+            LOGGER.debug("Could not stop the {} driver service: {}", serviceName, alreadyStopped.getMessage());
+        }
+        driverService = newDriverService.get();
+        return driverService;
+    }
+
+    synchronized void stop() {
+        if (driverService != null && driverService.isRunning()) {
+            driverService.stop();
+        }
+        started = false;
+    }
+
+    synchronized boolean isRunning() {
+        return driverService != null && driverService.isRunning();
+    }
+}
@@ -35,6 +35,11 @@ public class GeckoServicePool extends DriverServicePool<GeckoDriverService> {
         configureGeckoDriverBinaries();
     }
 
+    @Override
+    protected boolean runsOneServicePerThread() {
+        return true;
+    }
+
     @Override
     protected GeckoDriverService newDriverService() {
         return ThreadsafeGeckoDriverService.createThreadsafeService(environmentVariables);
@@ -16,6 +16,8 @@ public class ThreadsafeGeckoDriverService extends GeckoDriverService {
 
     ThreadLocal<GeckoDriverService> threadLocalDriverService = new ThreadLocal<>();
 
+    private final ThreadLocal<Boolean> threadLocalServiceStarted = ThreadLocal.withInitial(() -> false);
+
     private final EnvironmentVariables environmentVariables;
 
     public ThreadsafeGeckoDriverService(EnvironmentVariables environmentVariables) throws IOException {
@@ -65,14 +67,32 @@ public class ThreadsafeGeckoDriverService extends GeckoDriverService {
         return getThreadlocalGeckoService().isRunning();
     }
 
+    /**
+     * Start the geckodriver for the current thread. If it was started before and has since stopped running,
+     * it has crashed, so it is replaced by a new one.
+     */
     @Override
     public void start() throws IOException {
+        if (threadLocalServiceStarted.get() && !getThreadlocalGeckoService().isRunning()) {
+            replaceCrashedThreadlocalGeckoService();
+        }
         getThreadlocalGeckoService().start();
+        threadLocalServiceStarted.set(true);
+    }
+
+    private void replaceCrashedThreadlocalGeckoService() {
+        try {
+            getThreadlocalGeckoService().stop();
+        } catch (RuntimeException alreadyStopped) {
+            // The process has gone already
+        }
+        threadLocalDriverService.remove();
     }
 
     @Override
     public void stop() {
         getThreadlocalGeckoService().stop();
+        threadLocalServiceStarted.set(false);
     }
 
 }
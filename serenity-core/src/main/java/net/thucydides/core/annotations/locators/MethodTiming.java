@@ -11,7 +11,7 @@ public class MethodTiming {
 
     private final Thread thread;
 
-    List<Predicate<StackTraceElement>> QUICK_METHOD_RULES = Arrays.asList(
+    static final List<Predicate<StackTraceElement>> QUICK_METHOD_RULES = Arrays.asList(
             elt -> elt.getMethodName().contains("Currently") || elt.getMethodName().contains("toString"),
             elt -> elt.getClassName().equals("org.openqa.selenium.support.ui.Select")
     );
@@ -25,22 +25,21 @@ public class MethodTiming {
     }
 
     public boolean isInQuickMethod() {
-        for (StackTraceElement elt : Thread.currentThread().getStackTrace()) {
-            if (elt.getMethodName().contains("Currently") || elt.getMethodName().contains("toString")) {
+        for (StackTraceElement elt : new Throwable().getStackTrace()) {
+            if (runQuickly(elt)) {
                 return true;
             }
-
         }
-
-        return Arrays.stream(Thread.currentThread().getStackTrace()).anyMatch(
-                this::runQuickly
-        );
+        return false;
     }
 
     private boolean runQuickly(StackTraceElement elt) {
-        return QUICK_METHOD_RULES.stream().anyMatch(
-                rule -> rule.test(elt)
-        );
+        for (Predicate<StackTraceElement> rule : QUICK_METHOD_RULES) {
+            if (rule.test(elt)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -405,6 +405,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
         if (darkroom != null) {
             darkroom.waitUntilClose();
         }
+        soundEngineer.waitForPageSourcesToBeSaved();
     }
 
     public void testSuiteFinished() {
@@ -7,19 +7,29 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Arrays.stream;
 
 public class CleanupMethodLocator {
 
-    private final List<String> cleanupMethodsAnnotations = new ArrayList<>();
+    private static final List<String> CLEANUP_METHOD_ANNOTATIONS = cleanupMethodAnnotations();
 
-    public CleanupMethodLocator() {
+    /**
+     * Whether each method seen in a stack trace is a fixture method, by class and method name, so that each method
+     * is only loaded and checked once rather than once per step.
+     */
+    private static final Map<String, Boolean> FIXTURE_METHODS = new ConcurrentHashMap<>();
+
+    private static List<String> cleanupMethodAnnotations() {
+        List<String> cleanupMethodsAnnotations = new ArrayList<>();
         Iterable<CleanupMethodAnnotationProvider> cleanupMethodAnnotationProviders = ServiceLoader.load(CleanupMethodAnnotationProvider.class);
         for (CleanupMethodAnnotationProvider cleanupMethodAnnotationProvider : cleanupMethodAnnotationProviders) {
             cleanupMethodsAnnotations.addAll(cleanupMethodAnnotationProvider.getCleanupMethodAnnotations());
         }
+        return cleanupMethodsAnnotations;
     }
 
     public boolean currentMethodWasCalledFromACleanupMethod() {
@@ -28,11 +38,21 @@ public class CleanupMethodLocator {
     }
 
     private boolean isAnnotatedWithAFixtureMethod(StackTraceElement stackTraceElement) {
+        String methodKey = stackTraceElement.getClassName() + "#" + stackTraceElement.getMethodName();
+        Boolean isAFixtureMethod = FIXTURE_METHODS.get(methodKey);
+        if (isAFixtureMethod == null) {
+            isAFixtureMethod = isAFixtureMethod(stackTraceElement);
+            FIXTURE_METHODS.put(methodKey, isAFixtureMethod);
+        }
+        return isAFixtureMethod;
+    }
+
+    private boolean isAFixtureMethod(StackTraceElement stackTraceElement) {
         try {
             Method method = Class.forName(stackTraceElement.getClassName()).getMethod(stackTraceElement.getMethodName());
             return (stream(method.getAnnotations()).anyMatch(
                     annotation -> (isAnAfterAnnotation(annotation.annotationType().getSimpleName())
-                            || cleanupMethodsAnnotations.contains(annotation.toString()))
+                            || CLEANUP_METHOD_ANNOTATIONS.contains(annotation.toString()))
             ));
         } catch (Exception ignored) {
             return false;
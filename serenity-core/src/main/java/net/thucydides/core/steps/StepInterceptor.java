@@ -10,6 +10,7 @@ import net.serenitybdd.core.SkipNested;
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
 import net.serenitybdd.core.exceptions.SerenityManagedException;
 import net.serenitybdd.core.steps.HasCustomFieldValues;
+import net.serenitybdd.core.steps.SilentSteps;
 import net.serenitybdd.markers.CanBeSilent;
 import net.serenitybdd.markers.IsSilent;
 import net.sf.cglib.proxy.MethodInterceptor;
@@ -31,7 +32,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
 
-import static java.util.Arrays.asList;
 import static net.thucydides.core.steps.ErrorConvertor.forError;
 
 /**
@@ -108,9 +108,7 @@ public class StepInterceptor implements MethodInterceptor, MethodErrorReporter {
     }
 
     private boolean isNestedInSilentTask() {
-        return asList(new Exception().getStackTrace())
-                .stream()
-                .anyMatch(element -> element.getMethodName().equals("performSilently"));
+        return SilentSteps.areInProgress();
     }
 
 
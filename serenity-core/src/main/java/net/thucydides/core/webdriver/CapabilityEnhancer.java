@@ -11,6 +11,7 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static net.thucydides.core.ThucydidesSystemProperty.ACCEPT_INSECURE_CERTIFICATES;
 
@@ -18,6 +19,9 @@ import static net.thucydides.core.ThucydidesSystemProperty.ACCEPT_INSECURE_CERTI
  * Created by john on 25/06/2016.
  */
 public class CapabilityEnhancer {
+
+    private static final ThreadLocal<CallingTest> CALLING_TEST = new ThreadLocal<>();
+
     private final EnvironmentVariables environmentVariables;
     private final FixtureProviderService fixtureProviderService;
 
@@ -36,20 +40,55 @@ public class CapabilityEnhancer {
 
         AddEnvironmentSpecifiedDriverCapabilities.from(environmentVariables).forDriver(driver).to(capabilities);
 
-        if (StepEventBus.getEventBus() != null && StepEventBus.getEventBus().isBaseStepListenerRegistered()) {
-            Optional<TestOutcome> currentTestOutcome = StepEventBus.getEventBus()
-                                                         .getBaseStepListener()
-                                                         .latestTestOutcome();
-
-            TestOutcome outcome = (currentTestOutcome == null) ? null : currentTestOutcome.orElse(null);
+        CallingTest callingTest = (CALLING_TEST.get() != null) ? CALLING_TEST.get() : CallingTest.onCurrentThread();
+        if (callingTest != null) {
             AddCustomDriverCapabilities.from(environmentVariables)
-                                       .withTestDetails(driver, outcome)
+                                       .withTestDetails(driver, callingTest.outcome)
                                        .to(capabilities);
         }
 
         return capabilities;
     }
 
+    /**
+     * The custom capabilities for a test (such as the test name used by remote grids) come from the test outcome
+     * recorded on the test's own thread. Wrap a driver creation that will run on another thread with this method,
+     * before handing it over, so that the driver is given the capabilities of the test on the current thread.
+     */
+    public static <T> Supplier<T> withTestDetailsOfCurrentThread(Supplier<T> driverCreation) {
+        CallingTest callingTest = CallingTest.onCurrentThread();
+        return () -> {
+            CallingTest previousCallingTest = CALLING_TEST.get();
+            CALLING_TEST.set(callingTest);
+            try {
+                return driverCreation.get();
+            } finally {
+                CALLING_TEST.set(previousCallingTest);
+            }
+        };
+    }
+
+    private static class CallingTest {
+        private final TestOutcome outcome;
+
+        private CallingTest(TestOutcome outcome) {
+            this.outcome = outcome;
+        }
+
+        /**
+         * Null if no test is being recorded on this thread.
+         */
+        static CallingTest onCurrentThread() {
+            if (StepEventBus.getEventBus() == null || !StepEventBus.getEventBus().isBaseStepListenerRegistered()) {
+                return null;
+            }
+            Optional<TestOutcome> currentTestOutcome = StepEventBus.getEventBus()
+                                                                   .getBaseStepListener()
+                                                                   .latestTestOutcome();
+            return new CallingTest((currentTestOutcome == null) ? null : currentTestOutcome.orElse(null));
+        }
+    }
+
     private void addExtraCapabiities(DesiredCapabilities capabilities, CapabilitySet capabilitySet) {
         Map<String, Object> extraCapabilities = capabilitySet.getCapabilities();
         for(String capabilityName : extraCapabilities.keySet()) {
@@ -0,0 +1,32 @@
+package net.thucydides.core.webdriver;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_CREATION_PARALLEL_LIMIT;
+
+/**
+ * Limits how many drivers of each type are being created at any one time, across all the driver factories.
+ * Browsers of different types never wait for each other, and browsers of the same type only wait once the
+ * limit (webdriver.creation.parallel.limit) is reached, rather than every browser waiting for the one before it.
+ */
+class DriverCreationPermits {
+
+    private static final Map<SupportedWebDriver, Semaphore> PERMITS_BY_DRIVER_TYPE = new ConcurrentHashMap<>();
+
+    private DriverCreationPermits() {}
+
+    static Semaphore forDriverType(SupportedWebDriver driverType, EnvironmentVariables environmentVariables) {
+        return PERMITS_BY_DRIVER_TYPE.computeIfAbsent(driverType,
+                                                      type -> new Semaphore(parallelLimitDefinedIn(environmentVariables), true));
+    }
+
+    static int parallelLimitDefinedIn(EnvironmentVariables environmentVariables) {
+        int parallelLimit = WEBDRIVER_CREATION_PARALLEL_LIMIT.integerFrom(environmentVariables,
+                                                                          Runtime.getRuntime().availableProcessors());
+        return Math.max(parallelLimit, 1);
+    }
+}
@@ -0,0 +1,23 @@
+package net.thucydides.core.webdriver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The background threads used to start browsers asynchronously (see WebDriverFactory.newInstanceOfAsync()).
+ * Threads are created as they are needed, since starting a browser mostly means waiting for it, and are daemon
+ * threads so that they never keep the JVM alive.
+ */
+class DriverCreationThreads {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "serenity-driver-creation-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DriverCreationThreads() {}
+}
@@ -34,6 +34,11 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     private String options = "";
 
+    /**
+     * The kind of pooled session the proxied driver is, if it can go back into the shared session pool when it is quit.
+     */
+    private String pooledSessionKey;
+
     /**
      * Implicit timeout values recorded to that they can be restored after calling findElements()
      */
@@ -120,6 +125,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     }
 
     private void forcedQuit() {
+        pooledSessionKey = null;
         try {
             getDriverInstance().quit();
             proxiedWebDriver = null;
@@ -138,13 +144,31 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
                 return new WebDriverStub();
             } else {
                 webDriverFactory.setupFixtureServices();
-                return webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
+                return newOrPooledDriverInstance();
             }
         } catch (DriverConfigurationError e) {
             throw new DriverConfigurationError("Could not instantiate " + driverClass, e);
         }
     }
 
+    private WebDriver newOrPooledDriverInstance() {
+        WebDriverSessionPool sessionPool = WebDriverSessionPool.sharedPoolFor(environmentVariables);
+        if (!sessionPool.isEnabled()) {
+            return webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
+        }
+        // Resolve the default driver options here, as pooled sessions are started on other threads
+        String sessionOptions = options.isEmpty() ? ThucydidesWebDriverSupport.getDefaultDriverOptions().orElse(options) : options;
+        String sessionKey = driverClass.getName() + (sessionOptions.isEmpty() ? "" : ":" + sessionOptions);
+
+        WebDriver driver = sessionPool.take(sessionKey)
+                                      .orElseGet(() -> sessionPool.started(
+                                              webDriverFactory.newWebdriverInstance(driverClass, sessionOptions, environmentVariables)));
+        sessionPool.warmUp(sessionKey,
+                           () -> webDriverFactory.newWebdriverInstance(driverClass, sessionOptions, environmentVariables));
+        pooledSessionKey = sessionKey;
+        return driver;
+    }
+
     public <X> X getScreenshotAs(final OutputType<X> target) {
         if (proxyInstanciated() && driverCanTakeScreenshots()) {
             try {
@@ -277,7 +301,9 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     public void quit() {
         if (proxyInstanciated()) {
             try {
-                getDriverInstance().quit();
+                if (!returnedToSessionPool(getDriverInstance())) {
+                    getDriverInstance().quit();
+                }
                 webDriverFactory.shutdownFixtureServices();
                 webDriverFactory.releaseTimoutFor(getDriverInstance());
 
@@ -288,6 +314,15 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         }
     }
 
+    private boolean returnedToSessionPool(WebDriver driver) {
+        if (pooledSessionKey == null) {
+            return false;
+        }
+        String sessionKey = pooledSessionKey;
+        pooledSessionKey = null;
+        return WebDriverSessionPool.sharedPoolFor(environmentVariables).giveBack(sessionKey, driver);
+    }
+
     protected boolean proxyInstanciated() {
         return (getDriverInstance() != null);
     }
@@ -13,6 +13,7 @@ import net.thucydides.core.fixtureservices.FixtureProviderService;
 import net.thucydides.core.fixtureservices.FixtureService;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.requirements.RequirementsTagProvider;
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.capabilities.SaucelabsRemoteDriverCapabilities;
 import net.thucydides.core.webdriver.redimension.RedimensionBrowser;
@@ -25,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import static net.thucydides.core.ThucydidesSystemProperty.*;
@@ -46,7 +49,7 @@ public class WebDriverFactory {
 
     private final CloseBrowser closeBrowser;
 
-    private Map<SupportedWebDriver, DriverProvider> driverProvidersByDriverType;
+    private volatile Map<SupportedWebDriver, DriverProvider> driverProvidersByDriverType;
 
     private final TimeoutStack timeoutStack;
 
@@ -110,42 +113,71 @@ public class WebDriverFactory {
     }
 
     private Map<SupportedWebDriver, DriverProvider> driverProviders() {
-
         if (driverProvidersByDriverType == null) {
-            driverProvidersByDriverType = new HashMap<>();
-
-            driverProvidersByDriverType.put(SupportedWebDriver.APPIUM, new AppiumDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.REMOTE, new RemoteDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.FIREFOX, new FirefoxDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.HTMLUNIT, new HtmlDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.PHANTOMJS, new PhantomJSDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.CHROME, new ChromeDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.SAFARI, new SafariDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.IEXPLORER, new InternetExplorerDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.EDGE, new EdgeDriverProvider(fixtureProviderService));
-            driverProvidersByDriverType.put(SupportedWebDriver.PROVIDED, new ProvidedDriverProvider());
-
+            synchronized (this) {
+                if (driverProvidersByDriverType == null) {
+                    driverProvidersByDriverType = defaultDriverProviders();
+                }
+            }
         }
         return driverProvidersByDriverType;
     }
 
+    private Map<SupportedWebDriver, DriverProvider> defaultDriverProviders() {
+        Map<SupportedWebDriver, DriverProvider> driverProvidersByDriverType = new HashMap<>();
+
+        driverProvidersByDriverType.put(SupportedWebDriver.APPIUM, new AppiumDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.REMOTE, new RemoteDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.FIREFOX, new FirefoxDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.HTMLUNIT, new HtmlDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.PHANTOMJS, new PhantomJSDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.CHROME, new ChromeDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.SAFARI, new SafariDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.IEXPLORER, new InternetExplorerDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.EDGE, new EdgeDriverProvider(fixtureProviderService));
+        driverProvidersByDriverType.put(SupportedWebDriver.PROVIDED, new ProvidedDriverProvider());
+
+        return driverProvidersByDriverType;
+    }
+
     /**
-     * This method is synchronized because multiple webdriver instances can be created in parallel.
-     * However, they may use common system resources such as ports, so may potentially interfere
-     * with each other.
+     * Create a new WebDriver instance of a given type on a background thread, so that a browser can start up
+     * while the calling thread does something else.
+     * If WebDriver calls are suspended on the calling thread, the driver is created straight away on the calling
+     * thread instead, as newInstanceOf() would.
+     * The driver is given the custom capabilities of the test running on the calling thread (see CapabilityEnhancer).
      */
-    protected synchronized WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass) {
+    public CompletableFuture<WebDriver> newInstanceOfAsync(final SupportedWebDriver driverType) {
+        if (driverType == null) {
+            throw new IllegalArgumentException("Driver type cannot be null");
+        }
+        if (StepEventBus.getEventBus().webdriverCallsAreSuspended()) {
+            return CompletableFuture.completedFuture(newInstanceOf(driverType));
+        }
+        String driverOptions = resolved(DRIVER_OPTIONS.from(environmentVariables,""));
+        return CompletableFuture.supplyAsync(
+                CapabilityEnhancer.withTestDetailsOfCurrentThread(
+                        () -> newWebdriverInstance(driverType.getWebdriverClass(), driverOptions, environmentVariables)),
+                DriverCreationThreads.EXECUTOR
+        );
+    }
+
+    /**
+     * Drivers can be created in parallel. Drivers of the same type may use common system resources such as ports,
+     * so the number of drivers of each type being created at the same time is limited (see DriverCreationPermits).
+     */
+    protected WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass) {
         String driverOptions = DRIVER_OPTIONS.from(environmentVariables,"");
         return newWebdriverInstance(driverClass, driverOptions);
     }
 
-    private synchronized WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass, String options) {
+    private WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass, String options) {
         return newWebdriverInstance(driverClass, options, environmentVariables);
     }
 
-    protected synchronized WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass,
-                                                          String options,
-                                                          EnvironmentVariables environmentVariables) {
+    protected WebDriver newWebdriverInstance(final Class<? extends WebDriver> driverClass,
+                                             String options,
+                                             EnvironmentVariables environmentVariables) {
         try {
             return createWebDriver(driverClass, options, environmentVariables);
         } catch (SerenityManagedException toPassThrough) {
@@ -164,15 +196,26 @@ public class WebDriverFactory {
         RedimensionBrowser redimensionBrowser = new RedimensionBrowser(environmentVariables);
         SupportedWebDriver supportedDriverType = inEnvironment(environmentVariables).forDriverClass(driverClass);
 
-        String resolvedOptions = (options.isEmpty()) ? ThucydidesWebDriverSupport.getDefaultDriverOptions().orElse(options) : options;
+        String resolvedOptions = resolved(options);
 
-        WebDriver driver = driverProviders().get(supportedDriverType).newInstance(resolvedOptions,environmentVariables);
+        WebDriver driver;
+        Semaphore driverCreationPermits = DriverCreationPermits.forDriverType(supportedDriverType, environmentVariables);
+        driverCreationPermits.acquireUninterruptibly();
+        try {
+            driver = driverProviders().get(supportedDriverType).newInstance(resolvedOptions,environmentVariables);
+        } finally {
+            driverCreationPermits.release();
+        }
         setImplicitTimeoutsIfSpecified(driver);
         redimensionBrowser.withDriver(driver);
         closeBrowser.closeWhenTheTestsAreFinished(driver);
         return driver;
     }
 
+    private String resolved(String options) {
+        return (options.isEmpty()) ? ThucydidesWebDriverSupport.getDefaultDriverOptions().orElse(options) : options;
+    }
+
     private WebDriver waitThenRetry(Class<? extends WebDriver> driverClass,
                                     String options,
                                     EnvironmentVariables environmentVariables) {
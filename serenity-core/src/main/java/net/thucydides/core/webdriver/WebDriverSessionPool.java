@@ -0,0 +1,300 @@
+package net.thucydides.core.webdriver;
+
+import net.thucydides.core.util.EnvironmentVariables;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_SESSION_POOL_MAX_USES;
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_SESSION_POOL_SIZE;
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT;
+
+/**
+ * Open browser sessions that can be reused by later tests, so that each test does not have to wait for a new
+ * browser to start. Sessions are kept by driver type and options: a session is only handed to a test that asked
+ * for the same kind of browser as the test that used it before.
+ * A session is reset before it goes back into the pool: its storage and cookies are cleared, and its timeouts and
+ * window size and position are put back the way they were when it started. It is closed instead once it has been
+ * used for webdriver.session.pool.max.uses tests, if it cannot be reset, or if it no longer responds.
+ * New sessions are only started in the background for a kind of browser once a session of that kind has been
+ * given back, so runs that never give sessions back do not start extra browsers.
+ * The shared pool closes its idle sessions, and any sessions still starting up, when the JVM shuts down.
+ */
+class WebDriverSessionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverSessionPool.class);
+
+    private static final int DEFAULT_MAX_USES = 20;
+    private static final long MAX_WAIT_FOR_WARM_UP_ON_CLOSE_IN_MILLIS = 30000;
+
+    /**
+     * The WebDriver defaults, as Serenity does not configure these timeouts itself.
+     */
+    private static final long DEFAULT_PAGE_LOAD_TIMEOUT_IN_MILLIS = 300000;
+    private static final long DEFAULT_SCRIPT_TIMEOUT_IN_MILLIS = 30000;
+
+    private static WebDriverSessionPool sharedPool;
+
+    private final int poolSize;
+    private final int maxUses;
+    private final long implicitWaitInMillis;
+    private final Executor warmUpExecutor;
+
+    private final Map<String, Deque<WebDriver>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sessionsWarmingUp = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Integer> usesBySession = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<WebDriver, StartingWindow> startingWindows = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Set<String> sessionKeysGivenBack = ConcurrentHashMap.newKeySet();
+
+    private final Object warmUpMonitor = new Object();
+    private int totalWarmingUp = 0;
+    private volatile boolean closed = false;
+
+    WebDriverSessionPool(int poolSize, int maxUses, Executor warmUpExecutor) {
+        this(poolSize, maxUses, 0, warmUpExecutor);
+    }
+
+    WebDriverSessionPool(int poolSize, int maxUses, long implicitWaitInMillis, Executor warmUpExecutor) {
+        this.poolSize = Math.max(poolSize, 0);
+        this.maxUses = Math.max(maxUses, 1);
+        this.implicitWaitInMillis = Math.max(implicitWaitInMillis, 0);
+        this.warmUpExecutor = warmUpExecutor;
+    }
+
+    static synchronized WebDriverSessionPool sharedPoolFor(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            sharedPool = new WebDriverSessionPool(WEBDRIVER_SESSION_POOL_SIZE.integerFrom(environmentVariables, 0),
+                                                  WEBDRIVER_SESSION_POOL_MAX_USES.integerFrom(environmentVariables, DEFAULT_MAX_USES),
+                                                  WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT.integerFrom(environmentVariables, 0),
+                                                  DriverCreationThreads.EXECUTOR);
+            if (sharedPool.isEnabled()) {
+                Runtime.getRuntime().addShutdownHook(new Thread(sharedPool::closeAll, "serenity-session-pool-shutdown"));
+            }
+        }
+        return sharedPool;
+    }
+
+    boolean isEnabled() {
+        return poolSize > 0;
+    }
+
+    /**
+     * Remember the window size and position a new session started with, so that they can be put back
+     * when the session is given back to the pool.
+     */
+    WebDriver started(WebDriver newSession) {
+        if (isEnabled()) {
+            try {
+                WebDriver.Window window = newSession.manage().window();
+                startingWindows.put(newSession, new StartingWindow(window.getSize(), window.getPosition()));
+            } catch (RuntimeException windowNotAvailable) {
+                LOGGER.debug("Could not read the window of a new browser session: {}", windowNotAvailable.getMessage());
+            }
+        }
+        return newSession;
+    }
+
+    /**
+     * An idle session of this kind that still responds, if there is one.
+     */
+    Optional<WebDriver> take(String sessionKey) {
+        Deque<WebDriver> sessions = idleSessionsFor(sessionKey);
+        WebDriver session;
+        while ((session = sessions.pollFirst()) != null) {
+            if (WebDriverFactory.isAlive(session)) {
+                return Optional.of(session);
+            }
+            discard(session);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Start new sessions of this kind in the background until there are enough idle (or starting) sessions to fill
+     * the pool. Nothing is started until a session of this kind has been given back.
+     */
+    void warmUp(String sessionKey, Supplier<WebDriver> newSession) {
+        if (!isEnabled() || !sessionKeysGivenBack.contains(sessionKey)) {
+            return;
+        }
+        AtomicInteger warmingUp = sessionsWarmingUp.computeIfAbsent(sessionKey, key -> new AtomicInteger());
+        while (reservedWarmUpSlot(sessionKey, warmingUp)) {
+            warmUpStarted();
+            warmUpExecutor.execute(() -> {
+                try {
+                    WebDriver session = started(newSession.get());
+                    if (!keptIdle(sessionKey, session)) {
+                        discard(session);
+                    }
+                } catch (RuntimeException couldNotStartBrowser) {
+                    LOGGER.warn("Could not start a browser for the session pool: {}", couldNotStartBrowser.getMessage());
+                } finally {
+                    warmingUp.decrementAndGet();
+                    warmUpFinished();
+                }
+            });
+        }
+    }
+
+    /**
+     * Reserve a place in the pool for a new session, if the idle and starting sessions do not already fill it.
+     */
+    private boolean reservedWarmUpSlot(String sessionKey, AtomicInteger warmingUp) {
+        while (!closed) {
+            int sessionsStarting = warmingUp.get();
+            if (idleSessionsFor(sessionKey).size() + sessionsStarting >= poolSize) {
+                return false;
+            }
+            if (warmingUp.compareAndSet(sessionsStarting, sessionsStarting + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void warmUpStarted() {
+        synchronized (warmUpMonitor) {
+            totalWarmingUp++;
+        }
+    }
+
+    private void warmUpFinished() {
+        synchronized (warmUpMonitor) {
+            totalWarmingUp--;
+            warmUpMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Close every idle session, and every session that is still starting up once it has started
+     * (waiting a limited time for them to do so). Sessions given back after this are closed rather than kept.
+     */
+    void closeAll() {
+        closed = true;
+        waitForSessionsStillStartingUp();
+        for (Deque<WebDriver> sessions : idleSessions.values()) {
+            synchronized (sessions) {
+                WebDriver session;
+                while ((session = sessions.pollFirst()) != null) {
+                    discard(session);
+                }
+            }
+        }
+    }
+
+    private void waitForSessionsStillStartingUp() {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_FOR_WARM_UP_ON_CLOSE_IN_MILLIS;
+        synchronized (warmUpMonitor) {
+            long timeRemaining;
+            while (totalWarmingUp > 0 && (timeRemaining = deadline - System.currentTimeMillis()) > 0) {
+                try {
+                    warmUpMonitor.wait(timeRemaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reset a session that a test has finished with and keep it for the next test.
+     *
+     * @return false if the session should be closed instead: it has been used too often, could not be reset,
+     * or the pool is already full
+     */
+    boolean giveBack(String sessionKey, WebDriver session) {
+        if (!isEnabled()) {
+            return false;
+        }
+        int uses = usesBySession.merge(session, 1, Integer::sum);
+        if (closed || uses >= maxUses || idleSessionsFor(sessionKey).size() >= poolSize || !reset(session)
+                || !keptIdle(sessionKey, session)) {
+            forget(session);
+            return false;
+        }
+        sessionKeysGivenBack.add(sessionKey);
+        return true;
+    }
+
+    /**
+     * Keep a session for the next test, unless the pool is full or has been closed.
+     */
+    private boolean keptIdle(String sessionKey, WebDriver session) {
+        Deque<WebDriver> sessions = idleSessionsFor(sessionKey);
+        synchronized (sessions) {
+            if (closed || sessions.size() >= poolSize) {
+                return false;
+            }
+            sessions.addLast(session);
+            return true;
+        }
+    }
+
+    /**
+     * A session whose starting window is not known cannot be put back the way it was, so it is not reset.
+     */
+    private boolean reset(WebDriver session) {
+        StartingWindow startingWindow = startingWindows.get(session);
+        if (startingWindow == null) {
+            return false;
+        }
+        try {
+            if (session instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) session).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            WebDriver.Options options = session.manage();
+            options.deleteAllCookies();
+            options.timeouts().implicitlyWait(implicitWaitInMillis, TimeUnit.MILLISECONDS);
+            options.timeouts().pageLoadTimeout(DEFAULT_PAGE_LOAD_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+            options.timeouts().setScriptTimeout(DEFAULT_SCRIPT_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+            options.window().setSize(startingWindow.size);
+            options.window().setPosition(startingWindow.position);
+            session.get("about:blank");
+            return true;
+        } catch (RuntimeException couldNotResetSession) {
+            LOGGER.debug("Could not reset a pooled browser session: {}", couldNotResetSession.getMessage());
+            return false;
+        }
+    }
+
+    private void forget(WebDriver session) {
+        usesBySession.remove(session);
+        startingWindows.remove(session);
+    }
+
+    private void discard(WebDriver session) {
+        forget(session);
+        try {
+            session.quit();
+        } catch (RuntimeException alreadyClosed) {
+            LOGGER.debug("Failed to close a pooled browser session: {}", alreadyClosed.getMessage());
+        }
+    }
+
+    private Deque<WebDriver> idleSessionsFor(String sessionKey) {
+        return idleSessions.computeIfAbsent(sessionKey, key -> new ConcurrentLinkedDeque<>());
+    }
+
+    private static class StartingWindow {
+        private final Dimension size;
+        private final Point position;
+
+        StartingWindow(Dimension size, Point position) {
+            this.size = size;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.serenitybdd.core.photography
+
+import net.thucydides.core.screenshots.BlurLevel
+import spock.lang.Specification
+
+import javax.imageio.ImageIO
+import java.awt.image.BufferedImage
+import java.nio.file.Files
+import java.nio.file.Path
+
+class WhenApplyingFiltersToScreenshots extends Specification {
+
+    static class CountingEncoder extends ScreenshotImageEncoder {
+        int reads = 0
+        int writes = 0
+
+        CountingEncoder() {
+            super(Optional.empty())
+        }
+
+        @Override
+        BufferedImage read(Path imagePath) throws IOException {
+            reads++
+            return super.read(imagePath)
+        }
+
+        @Override
+        void write(BufferedImage image, Path imagePath) throws IOException {
+            writes++
+            super.write(image, imagePath)
+        }
+    }
+
+    static class HalfSizeFilter implements DecodedImageFilter {
+        Path amendedScreenshotPath(ScreenshotNegative negative) { negative.screenshotPath }
+
+        boolean changesImageOf(ScreenshotNegative negative) { true }
+
+        BufferedImage filter(BufferedImage image, ScreenshotNegative negative) {
+            def resized = new BufferedImage(image.width.intdiv(2), image.height.intdiv(2), BufferedImage.TYPE_INT_RGB)
+            resized.createGraphics().drawImage(image, 0, 0, resized.width, resized.height, null)
+            return resized
+        }
+    }
+
+    static class UnchangedFilter implements DecodedImageFilter {
+        Path amendedScreenshotPath(ScreenshotNegative negative) { negative.screenshotPath }
+
+        boolean changesImageOf(ScreenshotNegative negative) { false }
+
+        BufferedImage filter(BufferedImage image, ScreenshotNegative negative) { image }
+    }
+
+    def negativeWithImageOfSize(int width, int height) {
+        def screenshotsDirectory = DarkroomFileSystem.get().getPath("/var/screenshots")
+        def imageData = new ByteArrayOutputStream()
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", imageData)
+        ScreenshotNegative.prepareNegativeIn(screenshotsDirectory)
+                          .withScreenshotData(imageData.toByteArray())
+                          .andBlurringOf(BlurLevel.NONE)
+                          .andTargetPathOf(screenshotsDirectory.resolve("screenshot.png"))
+    }
+
+    def "should decode and encode the screenshot only once for several filters"() {
+        given:
+            def encoder = new CountingEncoder()
+            def pipeline = new ScreenshotImagePipeline([new HalfSizeFilter(), new HalfSizeFilter()], encoder)
+            def negative = negativeWithImageOfSize(400, 200)
+        when:
+            pipeline.process(negative)
+            def processedImage = ImageIO.read(Files.newInputStream(negative.temporaryPath))
+        then:
+            encoder.reads == 1
+            encoder.writes == 1
+        and:
+            processedImage.width == 100
+            processedImage.height == 50
+    }
+
+    def "should not decode or encode the screenshot if no filter changes it"() {
+        given:
+            def encoder = new CountingEncoder()
+            def pipeline = new ScreenshotImagePipeline([new UnchangedFilter()], encoder)
+        when:
+            pipeline.process(negativeWithImageOfSize(400, 200))
+        then:
+            encoder.reads == 0
+            encoder.writes == 0
+    }
+}
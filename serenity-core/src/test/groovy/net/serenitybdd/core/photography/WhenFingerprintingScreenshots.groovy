@@ -0,0 +1,49 @@
+package net.serenitybdd.core.photography
+
+import spock.lang.Specification
+
+import javax.imageio.ImageIO
+import java.awt.Color
+import java.awt.image.BufferedImage
+
+class WhenFingerprintingScreenshots extends Specification {
+
+    def screenshotOf(Closure drawing) {
+        def image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB)
+        def graphics = image.createGraphics()
+        graphics.color = Color.WHITE
+        graphics.fillRect(0, 0, 800, 600)
+        graphics.color = Color.DARK_GRAY
+        graphics.fillRect(0, 0, 800, 80)
+        graphics.fillRect(100, 200, 300, 200)
+        drawing(graphics)
+        graphics.dispose()
+        def imageData = new ByteArrayOutputStream()
+        ImageIO.write(image, "png", imageData)
+        imageData.toByteArray()
+    }
+
+    def "screenshots that only differ by a blinking cursor should have similar fingerprints"() {
+        given:
+            def withCursor = ScreenshotFingerprint.forScreenshotData(screenshotOf { it.fillRect(500, 300, 1, 12) }).get()
+            def withoutCursor = ScreenshotFingerprint.forScreenshotData(screenshotOf {}).get()
+        expect:
+            withCursor.isSimilarTo(withoutCursor, 2)
+    }
+
+    def "screenshots of different pages should have different fingerprints"() {
+        given:
+            def firstPage = ScreenshotFingerprint.forScreenshotData(screenshotOf {}).get()
+            def secondPage = ScreenshotFingerprint.forScreenshotData(screenshotOf {
+                it.color = Color.BLACK
+                it.fillRect(450, 100, 300, 450)
+            }).get()
+        expect:
+            !secondPage.isSimilarTo(firstPage, 2)
+    }
+
+    def "data that is not an image should have no fingerprint"() {
+        expect:
+            !ScreenshotFingerprint.forScreenshotData("not an image".bytes).isPresent()
+    }
+}
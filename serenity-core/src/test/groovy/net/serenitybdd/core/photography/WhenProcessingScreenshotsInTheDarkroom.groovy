@@ -0,0 +1,77 @@
+package net.serenitybdd.core.photography
+
+import net.thucydides.core.screenshots.BlurLevel
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class WhenProcessingScreenshotsInTheDarkroom extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def negativeFor(String name, File outputDirectory) {
+        def screenshotsDirectory = DarkroomFileSystem.get().getPath("/var/screenshots")
+        ScreenshotNegative.prepareNegativeIn(screenshotsDirectory)
+                          .withScreenshotData(name.bytes)
+                          .andBlurringOf(BlurLevel.NONE)
+                          .andTargetPathOf(outputDirectory.toPath().resolve(name + ".png"))
+    }
+
+    def "should save every screenshot even when the queue is full"() {
+        given:
+            def outputDirectory = temporaryFolder.newFolder("screenshots")
+            def processingLine = new DarkroomProcessingLine([], 2, 1)
+        when:
+            def receipts = (1..50).collect { processingLine.addToProcessingQueue(negativeFor("screenshot-" + it, outputDirectory)) }
+            processingLine.terminate()
+            processingLine.awaitTermination()
+        then:
+            receipts.every { Files.exists(it.destinationPath) }
+        and:
+            processingLine.metrics.processedCount == 50
+            processingLine.metrics.queueDepth == 0
+            processingLine.metrics.maxQueueDepth >= 1
+    }
+
+    def "should process screenshots on the calling thread once the processing line is closed"() {
+        given:
+            def outputDirectory = temporaryFolder.newFolder("screenshots")
+            def processingLine = new DarkroomProcessingLine([], 1, 10)
+            processingLine.terminate()
+        when:
+            def receipt = processingLine.addToProcessingQueue(negativeFor("late-screenshot", outputDirectory))
+        then:
+            Files.exists(receipt.destinationPath)
+            processingLine.metrics.processedByCallingThreadCount == 1
+    }
+
+    def "processing lines should share the same workers"() {
+        given:
+            def outputDirectory = temporaryFolder.newFolder("screenshots")
+            def workers = DarkroomWorkers.newPool(2, 10)
+            def firstLine = new DarkroomProcessingLine([], workers)
+            def secondLine = new DarkroomProcessingLine([], workers)
+        when:
+            def firstReceipt = firstLine.addToProcessingQueue(negativeFor("first", outputDirectory))
+            firstLine.terminate()
+            firstLine.awaitTermination()
+            def secondReceipt = secondLine.addToProcessingQueue(negativeFor("second", outputDirectory))
+            secondLine.terminate()
+            secondLine.awaitTermination()
+        then:
+            Files.exists(firstReceipt.destinationPath)
+            Files.exists(secondReceipt.destinationPath)
+        and:
+            !workers.isShutdown()
+            secondLine.metrics.processedByCallingThreadCount == 0
+    }
+
+    def "the darkroom workers should be shared across the JVM"() {
+        expect:
+            DarkroomWorkers.sharedPoolFor(new MockEnvironmentVariables()).is(DarkroomWorkers.sharedPoolFor(new MockEnvironmentVariables()))
+    }
+}
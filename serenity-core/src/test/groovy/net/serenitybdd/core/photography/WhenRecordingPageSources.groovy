@@ -0,0 +1,97 @@
+package net.serenitybdd.core.photography
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import org.openqa.selenium.WebDriver
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.nio.file.Files
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class WhenRecordingPageSources extends Specification {
+
+    @Rule
+    TemporaryFolder folder = new TemporaryFolder()
+
+    def "should save the page source in the file named in the receipt"() {
+        given:
+            def driver = Mock(WebDriver)
+            driver.getPageSource() >> "<html><body>Hello</body></html>"
+            def writer = new PageSourceWriter()
+            def pendingWrites = new PendingPageSourceWrites()
+            def recorder = new PageSourceRecorder(driver, writer, pendingWrites)
+        when:
+            def pageSourceFile = recorder.intoDirectory(folder.newFolder().toPath())
+            pendingWrites.await()
+        then:
+            pageSourceFile.isPresent()
+            pageSourceFile.get().text == "<html><body>Hello</body></html>"
+    }
+
+    def "identical page sources should only be saved once"() {
+        given:
+            def driver = Mock(WebDriver)
+            driver.getPageSource() >> "<html><body>Hello</body></html>"
+            def writer = new PageSourceWriter()
+            def pendingWrites = new PendingPageSourceWrites()
+            def recorder = new PageSourceRecorder(driver, writer, pendingWrites)
+            def outputDirectory = folder.newFolder()
+        when:
+            def firstPageSource = recorder.intoDirectory(outputDirectory.toPath())
+            def secondPageSource = recorder.intoDirectory(outputDirectory.toPath())
+            pendingWrites.await()
+        then:
+            secondPageSource.get().text == "<html><body>Hello</body></html>"
+            Files.isSameFile(firstPageSource.get().toPath(), secondPageSource.get().toPath())
+    }
+
+    def "different page sources should be saved in different files"() {
+        given:
+            def driver = Mock(WebDriver)
+            driver.getPageSource() >>> ["<html><body>Hello</body></html>", "<html><body>Goodbye</body></html>"]
+            def writer = new PageSourceWriter()
+            def pendingWrites = new PendingPageSourceWrites()
+            def recorder = new PageSourceRecorder(driver, writer, pendingWrites)
+            def outputDirectory = folder.newFolder()
+        when:
+            def firstPageSource = recorder.intoDirectory(outputDirectory.toPath())
+            def secondPageSource = recorder.intoDirectory(outputDirectory.toPath())
+            pendingWrites.await()
+        then:
+            firstPageSource.get().text == "<html><body>Hello</body></html>"
+            secondPageSource.get().text == "<html><body>Goodbye</body></html>"
+    }
+
+    @Timeout(10)
+    def "should only wait for the page sources queued by the same listener"() {
+        given:
+            def driver = Mock(WebDriver)
+            driver.getPageSource() >> "<html><body>Hello</body></html>"
+            def writer = new PageSourceWriter()
+            def ourPendingWrites = new PendingPageSourceWrites()
+            def otherPendingWrites = new PendingPageSourceWrites()
+            def blockedWrite = new CountDownLatch(1)
+            writer.writers.execute { blockedWrite.await() }
+        when:
+            new PageSourceRecorder(driver, writer, otherPendingWrites).intoDirectory(folder.newFolder().toPath())
+            ourPendingWrites.await()
+        then:
+            notThrown(Exception)
+        cleanup:
+            blockedWrite.countDown()
+            otherPendingWrites.await()
+    }
+
+    def "page source writer threads should not keep the JVM running"() {
+        given:
+            def writer = new PageSourceWriter()
+            def writerThread = new CompletableFuture<Thread>()
+        when:
+            writer.writers.execute { writerThread.complete(Thread.currentThread()) }
+        then:
+            writerThread.get(5, TimeUnit.SECONDS).isDaemon()
+    }
+}
@@ -0,0 +1,36 @@
+package net.serenitybdd.core.steps
+
+import spock.lang.Specification
+
+class WhenTrackingSilentSteps extends Specification {
+
+    def "steps are not silent by default"() {
+        expect:
+            !SilentSteps.areInProgress()
+    }
+
+    def "steps are silent until the outermost silent task is finished"() {
+        when:
+            SilentSteps.begin()
+            SilentSteps.begin()
+            SilentSteps.end()
+        then:
+            SilentSteps.areInProgress()
+        when:
+            SilentSteps.end()
+        then:
+            !SilentSteps.areInProgress()
+    }
+
+    def "silent tasks on one thread do not silence steps on other threads"() {
+        given:
+            SilentSteps.begin()
+        when:
+            def silentOnAnotherThread = null
+            Thread.start { silentOnAnotherThread = SilentSteps.areInProgress() }.join()
+        then:
+            silentOnAnotherThread == false
+        cleanup:
+            SilentSteps.end()
+    }
+}
@@ -0,0 +1,128 @@
+package net.serenitybdd.core.webdriver.servicepools
+
+import net.thucydides.core.util.EnvironmentVariables
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.openqa.selenium.Capabilities
+import org.openqa.selenium.WebDriver
+import org.openqa.selenium.remote.service.DriverService
+import spock.lang.Specification
+
+class WhenPoolingDriverServices extends Specification {
+
+    static class SampleServicePool extends DriverServicePool<DriverService> {
+
+        final String name = "sample-" + UUID.randomUUID()
+        final Iterator<DriverService> services
+        final boolean oneServicePerThread
+
+        SampleServicePool(EnvironmentVariables environmentVariables, List<DriverService> services, boolean oneServicePerThread = false) {
+            super(environmentVariables)
+            this.services = services.iterator()
+            this.oneServicePerThread = oneServicePerThread
+        }
+
+        @Override
+        protected boolean runsOneServicePerThread() { oneServicePerThread }
+
+        @Override
+        protected DriverService newDriverService() { services.next() }
+
+        @Override
+        protected String serviceName() { name }
+
+        @Override
+        protected WebDriver newDriverInstance(Capabilities capabilities) { null }
+    }
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def "should run a single driver service per driver type by default"() {
+        given:
+            def service = Mock(DriverService)
+            def pool = new SampleServicePool(environmentVariables, [service])
+        when:
+            pool.start()
+        then:
+            1 * service.start()
+    }
+
+    def "should run the configured number of driver services"() {
+        given:
+            environmentVariables.setProperty("webdriver.driver.service.pool.size", "3")
+            def first = Mock(DriverService)
+            def second = Mock(DriverService)
+            def third = Mock(DriverService)
+            def pool = new SampleServicePool(environmentVariables, [first, second, third])
+        when:
+            pool.start()
+        then:
+            1 * first.start()
+            1 * second.start()
+            1 * third.start()
+    }
+
+    def "should place new sessions on each driver service in turn"() {
+        given:
+            environmentVariables.setProperty("webdriver.driver.service.pool.size", "3")
+            def pool = new SampleServicePool(environmentVariables, [Mock(DriverService), Mock(DriverService), Mock(DriverService)])
+        when:
+            def services = (1..6).collect { pool.getDriverService() }
+        then:
+            services[0..2].unique(false).size() == 3
+            services[3..5] == services[0..2]
+    }
+
+    def "should replace a driver service that has crashed"() {
+        given:
+            def crashedService = Mock(DriverService)
+            def replacementService = Mock(DriverService)
+            def services = [crashedService, replacementService].iterator()
+            def slot = new DriverServiceSlot<DriverService>("sample", { services.next() })
+            crashedService.isRunning() >>> [false, true, false]
+        when:
+            slot.runningService()
+            slot.runningService()
+            def service = slot.runningService()
+        then:
+            service == replacementService
+            1 * replacementService.start()
+    }
+
+    def "should not replace a driver service that was shut down cleanly"() {
+        given:
+            def service = Mock(DriverService)
+            def slot = new DriverServiceSlot<DriverService>("sample", { service })
+            service.isRunning() >>> [false, true, false]
+        when:
+            slot.runningService()
+            slot.stop()
+            def restartedService = slot.runningService()
+        then:
+            restartedService == service
+            2 * service.start()
+    }
+
+    def "should start a driver service that runs one process per thread on each thread that uses it"() {
+        given:
+            def runningOnThisThread = ThreadLocal.withInitial { false }
+            def service = Mock(DriverService)
+            service.isRunning() >> { runningOnThisThread.get() }
+            def pool = new SampleServicePool(environmentVariables, [service], true)
+            def failures = Collections.synchronizedList([])
+        when:
+            def threads = (1..2).collect {
+                Thread.start {
+                    try {
+                        pool.start()
+                    } catch (Throwable failure) {
+                        failures << failure
+                    }
+                }
+            }
+            threads*.join()
+        then:
+            failures.isEmpty()
+            2 * service.start() >> { runningOnThisThread.set(true) }
+            0 * service.stop()
+    }
+}
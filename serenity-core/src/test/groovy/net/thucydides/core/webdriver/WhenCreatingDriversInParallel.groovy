@@ -0,0 +1,55 @@
+package net.thucydides.core.webdriver
+
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.openqa.selenium.htmlunit.HtmlUnitDriver
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class WhenCreatingDriversInParallel extends Specification {
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def driver
+
+    def setup() {
+        StepEventBus.eventBus.clear()
+    }
+
+    def cleanup() {
+        if (driver) {
+            driver.quit()
+        }
+    }
+
+    def "should allow one browser of each type per processor to start at the same time by default"() {
+        expect:
+            DriverCreationPermits.parallelLimitDefinedIn(environmentVariables) == Runtime.runtime.availableProcessors()
+    }
+
+    def "the number of browsers of each type starting at the same time can be configured"() {
+        given:
+            environmentVariables.setProperty("webdriver.creation.parallel.limit", "1")
+        expect:
+            DriverCreationPermits.parallelLimitDefinedIn(environmentVariables) == 1
+    }
+
+    def "drivers of different types do not share creation permits"() {
+        expect:
+            !DriverCreationPermits.forDriverType(SupportedWebDriver.CHROME, environmentVariables)
+                    .is(DriverCreationPermits.forDriverType(SupportedWebDriver.FIREFOX, environmentVariables))
+    }
+
+    def "should be able to create a driver in the background"() {
+        given:
+            environmentVariables.setProperty("webdriver.driver","provided")
+            environmentVariables.setProperty("webdriver.provided.type","mydriver")
+            environmentVariables.setProperty("webdriver.provided.mydriver","net.thucydides.core.webdriver.MyDriverSource")
+            def factory = new WebDriverFactory(environmentVariables)
+        when:
+            driver = factory.newInstanceOfAsync(SupportedWebDriver.PROVIDED).get(30, TimeUnit.SECONDS)
+        then:
+            driver.class == HtmlUnitDriver
+    }
+}
@@ -0,0 +1,212 @@
+package net.thucydides.core.webdriver
+
+import org.openqa.selenium.Dimension
+import org.openqa.selenium.Point
+import org.openqa.selenium.WebDriver
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+
+class WhenReusingBrowserSessions extends Specification {
+
+    def runImmediately = { Runnable task -> task.run() } as Executor
+
+    def startingSize = new Dimension(1280, 800)
+    def startingPosition = new Point(0, 0)
+
+    /**
+     * A session started through the pool, with a window that can be read and reset.
+     */
+    WebDriver aSessionStartedBy(WebDriverSessionPool pool, WebDriver.Options options = Stub(WebDriver.Options)) {
+        def window = Stub(WebDriver.Window)
+        window.getSize() >> startingSize
+        window.getPosition() >> startingPosition
+        options.window() >> window
+        options.timeouts() >> Stub(WebDriver.Timeouts)
+        def driver = Mock(WebDriver)
+        driver.manage() >> options
+        pool.started(driver)
+    }
+
+    def "the session pool is turned off by default"() {
+        expect:
+            !new WebDriverSessionPool(0, 20, runImmediately).isEnabled()
+    }
+
+    def "a session that is given back should be reset and handed to the next test"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def options = Mock(WebDriver.Options)
+            def driver = aSessionStartedBy(pool, options)
+        when:
+            def keptForReuse = pool.giveBack("chrome", driver)
+        then:
+            keptForReuse
+            1 * options.deleteAllCookies()
+            1 * driver.get("about:blank")
+        and:
+            pool.take("chrome").get().is(driver)
+    }
+
+    def "sessions are only handed to tests that asked for the same kind of browser"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def driver = aSessionStartedBy(pool)
+        when:
+            pool.giveBack("chrome", driver)
+        then:
+            !pool.take("firefox").isPresent()
+    }
+
+    def "a session should be closed once it has been used too often"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 2, runImmediately)
+            def driver = aSessionStartedBy(pool)
+        expect:
+            pool.giveBack("chrome", driver)
+            pool.take("chrome").isPresent()
+            !pool.giveBack("chrome", driver)
+    }
+
+    def "sessions that no longer respond are discarded"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def driver = aSessionStartedBy(pool)
+            pool.giveBack("chrome", driver)
+        when:
+            def session = pool.take("chrome")
+        then:
+            1 * driver.getCurrentUrl() >> { throw new RuntimeException("Browser has gone away") }
+            1 * driver.quit()
+            !session.isPresent()
+    }
+
+    def "new sessions are only started once a session of the same kind has been given back"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def sessionsStarted = 0
+        when:
+            pool.warmUp("chrome", { sessionsStarted++; Mock(WebDriver) })
+        then:
+            sessionsStarted == 0
+    }
+
+    def "new sessions are started to fill the pool"() {
+        given:
+            def pool = new WebDriverSessionPool(3, 20, runImmediately)
+            pool.giveBack("chrome", aSessionStartedBy(pool))
+            def sessionsStarted = 0
+        when:
+            pool.warmUp("chrome", { sessionsStarted++; Mock(WebDriver) })
+        then:
+            sessionsStarted == 2
+            pool.take("chrome").isPresent()
+    }
+
+    def "concurrent warm-ups should not start more sessions than the pool can hold"() {
+        given:
+            def startedWarmUps = Collections.synchronizedList([])
+            def pool = new WebDriverSessionPool(3, 20, { Runnable task -> startedWarmUps << task } as Executor)
+            pool.giveBack("chrome", aSessionStartedBy(pool))
+            def callers = (1..8).collect { Thread.start { pool.warmUp("chrome", { Mock(WebDriver) }) } }
+        when:
+            callers*.join()
+        then:
+            startedWarmUps.size() == 2
+    }
+
+    def "a warmed-up session should be closed if the pool has filled up in the meantime"() {
+        given:
+            def pendingWarmUps = []
+            def pool = new WebDriverSessionPool(1, 20, { Runnable task -> pendingWarmUps << task } as Executor)
+            def warmedUpSession = Mock(WebDriver)
+            def returnedSession = aSessionStartedBy(pool)
+            pool.giveBack("chrome", returnedSession)
+            pool.take("chrome")
+            pool.warmUp("chrome", { warmedUpSession })
+            pool.giveBack("chrome", returnedSession)
+        when:
+            pendingWarmUps*.run()
+        then:
+            1 * warmedUpSession.quit()
+        and:
+            pool.take("chrome").get().is(returnedSession)
+    }
+
+    def "idle sessions should be closed when the pool is closed"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def driver = aSessionStartedBy(pool)
+            pool.giveBack("chrome", driver)
+        when:
+            pool.closeAll()
+        then:
+            1 * driver.quit()
+        and:
+            !pool.take("chrome").isPresent()
+    }
+
+    def "sessions should not be kept or started once the pool is closed"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def driver = aSessionStartedBy(pool)
+            def sessionsStarted = 0
+        when:
+            pool.closeAll()
+            pool.warmUp("chrome", { sessionsStarted++; Mock(WebDriver) })
+        then:
+            !pool.giveBack("chrome", driver)
+            sessionsStarted == 0
+    }
+
+    def "sessions still starting up when the pool is closed should be closed once they have started"() {
+        given:
+            def pendingWarmUps = []
+            def pool = new WebDriverSessionPool(1, 20, { Runnable task -> pendingWarmUps << task } as Executor)
+            def warmedUpSession = Mock(WebDriver)
+            pool.giveBack("chrome", aSessionStartedBy(pool))
+            pool.take("chrome")
+            pool.warmUp("chrome", { warmedUpSession })
+        when:
+            def closing = Thread.start { pool.closeAll() }
+            pendingWarmUps*.run()
+            closing.join()
+        then:
+            1 * warmedUpSession.quit()
+    }
+
+    def "the timeouts and window of a session should be put back before it is reused"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, 2000, runImmediately)
+            def timeouts = Mock(WebDriver.Timeouts)
+            def window = Mock(WebDriver.Window)
+            window.getSize() >> startingSize
+            window.getPosition() >> startingPosition
+            def options = Stub(WebDriver.Options)
+            options.timeouts() >> timeouts
+            options.window() >> window
+            def driver = Mock(WebDriver)
+            driver.manage() >> options
+            pool.started(driver)
+        when:
+            def keptForReuse = pool.giveBack("chrome", driver)
+        then:
+            keptForReuse
+            1 * timeouts.implicitlyWait(2000, TimeUnit.MILLISECONDS)
+            1 * timeouts.pageLoadTimeout(300000, TimeUnit.MILLISECONDS)
+            1 * timeouts.setScriptTimeout(30000, TimeUnit.MILLISECONDS)
+            1 * window.setSize(startingSize)
+            1 * window.setPosition(startingPosition)
+    }
+
+    def "a session that cannot be put back the way it started should not be reused"() {
+        given:
+            def pool = new WebDriverSessionPool(2, 20, runImmediately)
+            def driver = Mock(WebDriver)
+            driver.manage() >> Stub(WebDriver.Options)
+        expect:
+            !pool.giveBack("chrome", driver)
+            !pool.take("chrome").isPresent()
+    }
+}
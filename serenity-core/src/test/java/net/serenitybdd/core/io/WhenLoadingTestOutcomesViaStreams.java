@@ -1,6 +1,9 @@
 package net.serenitybdd.core.io;
 
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestOutcomeSummary;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
 import net.thucydides.core.reports.TestOutcomeStream;
 import org.junit.Test;
 
@@ -8,6 +11,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static net.thucydides.core.util.TestResources.directoryInClasspathCalled;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -79,4 +84,35 @@ public class WhenLoadingTestOutcomesViaStreams {
         }
     }
 
+    @Test
+    public void should_load_test_outcomes_in_parallel_from_a_test_outcome_stream() throws IOException {
+
+        Path directory = directoryInClasspathCalled("/json-test-outcomes").toPath();
+
+        try(TestOutcomeStream stream = TestOutcomeStream.testOutcomesInDirectory(directory)) {
+            List<TestOutcome> outcomes = stream.parallelStream().collect(Collectors.toList());
+            assertThat(outcomes).hasSize(12);
+        }
+    }
+
+    @Test
+    public void should_process_each_test_outcome_as_it_is_loaded() {
+
+        AtomicInteger outcomeCount = new AtomicInteger();
+
+        new TestOutcomeLoader().forFormat(OutcomeFormat.JSON)
+                .forEachOutcomeIn(directoryInClasspathCalled("/json-test-outcomes"), outcome -> outcomeCount.incrementAndGet());
+
+        assertThat(outcomeCount.get()).isEqualTo(12);
+    }
+
+    @Test
+    public void should_load_lightweight_summaries_of_the_test_outcomes() {
+
+        List<TestOutcomeSummary> summaries = new TestOutcomeLoader().forFormat(OutcomeFormat.JSON)
+                .loadSummariesFrom(directoryInClasspathCalled("/json-test-outcomes"));
+
+        assertThat(summaries).hasSize(12);
+        assertThat(summaries).allMatch(summary -> summary.getTestResult() != null);
+    }
 }
@@ -1,14 +1,23 @@
 package net.serenitybdd.core.webdriver.enhancers;
 
+import com.google.common.io.Files;
 import net.serenitybdd.core.webdriver.driverproviders.AddCustomDriverCapabilities;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.steps.BaseStepListener;
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.core.webdriver.CapabilityEnhancer;
 import net.thucydides.core.webdriver.SupportedWebDriver;
 import org.junit.Test;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class WhenAddingCustomCapabilityEnhancers {
@@ -26,4 +35,29 @@ public class WhenAddingCustomCapabilityEnhancers {
 
         assertThat(capabilities.getCapability("name")).isEqualTo( "Sample story - Sample test");
     }
+
+    @Test
+    public void driversCreatedOnAnotherThreadGetTheCapabilitiesOfTheCallingTest() throws Exception {
+
+        // Given
+        CapabilityEnhancer enhancer = new CapabilityEnhancer(environmentVariables, Collections::emptyList);
+        AtomicReference<Supplier<DesiredCapabilities>> driverCreation = new AtomicReference<>();
+
+        Thread testThread = new Thread(() -> {
+            BaseStepListener listener = new BaseStepListener(Files.createTempDir());
+            StepEventBus.getEventBus().registerListener(listener);
+            listener.testSuiteStarted(Story.called("Sample story"));
+            listener.testStarted("sample_test");
+            driverCreation.set(CapabilityEnhancer.withTestDetailsOfCurrentThread(
+                    () -> enhancer.enhanced(DesiredCapabilities.chrome(), SupportedWebDriver.CHROME)));
+        });
+        testThread.start();
+        testThread.join();
+
+        // When
+        DesiredCapabilities capabilities = CompletableFuture.supplyAsync(driverCreation.get()).get();
+
+        // Then
+        assertThat(capabilities.getCapability("name")).isEqualTo( "Sample story - Sample test");
+    }
 }
@@ -3,9 +3,7 @@ package net.serenitybdd.reports.email
 import net.serenitybdd.reports.model.*
 import net.serenitybdd.reports.email.templates.ThymeleafTemplateEngine
 import net.serenitybdd.reports.io.testOutcomesIn
-import net.serenitybdd.reports.model.averageDurationOf
 import net.serenitybdd.reports.model.formattedDuration
-import net.serenitybdd.reports.model.maxDurationOf
 import net.thucydides.core.guice.Injectors
 import net.thucydides.core.model.TestResult.*
 import net.thucydides.core.reports.ExtendedReport
@@ -70,6 +68,7 @@ class EmailReporter(val environmentVariables: EnvironmentVariables) : ExtendedRe
         val tagTypes = SerenityEmailReport.tagTypes().configuredIn(environmentVariables)
         val tagCategoryTitle = SerenityEmailReport.tagCategoryTitle().configuredIn(environmentVariables)
         val showFullTestResults = SerenityEmailReport.showFullTestResults().configuredIn(environmentVariables)
+        val outcomeStatistics = OutcomeStatistics.of(testOutcomes.outcomes)
 
         val fields = hashMapOf(
                 "testOutcomes" to testOutcomes,
@@ -86,10 +85,10 @@ class EmailReporter(val environmentVariables: EnvironmentVariables) : ExtendedRe
                         countByResult = countByResultLabelFrom(testOutcomes),
                         percentageByResult = percentageByResultLabelFrom(testOutcomes),
                         totalTestDuration = formattedDuration(Duration.ofMillis(testOutcomes.duration)),
-                        clockTestDuration = formattedDuration(clockDurationOf(testOutcomes.outcomes)),
-                        averageTestDuration = formattedDuration(averageDurationOf(testOutcomes.outcomes)),
-                        maxTestDuration = formattedDuration(maxDurationOf(testOutcomes.outcomes)),
-                        minTestDuration = formattedDuration(minDurationOf(testOutcomes.outcomes))
+                        clockTestDuration = formattedDuration(outcomeStatistics.clockDuration),
+                        averageTestDuration = formattedDuration(outcomeStatistics.averageDuration),
+                        maxTestDuration = formattedDuration(outcomeStatistics.maxDuration),
+                        minTestDuration = formattedDuration(outcomeStatistics.minDuration)
                 ),
                 "failuresByFeature" to FailuresByFeature.from(testOutcomes),
                 "resultsByFeature" to TestResultsByFeature.from(testOutcomes),
@@ -5,7 +5,9 @@ import net.thucydides.core.ThucydidesSystemProperty
 import net.thucydides.core.guice.Injectors
 import net.thucydides.core.reports.ExtendedReports
 import net.thucydides.core.reports.ResultChecker
+import net.thucydides.core.reports.ScreenshotStore
 import net.thucydides.core.reports.html.HtmlAggregateStoryReporter
+import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.webdriver.Configuration
 import net.thucydides.core.configuration.SystemPropertiesConfiguration
 import org.apache.commons.io.FileUtils
@@ -112,6 +114,22 @@ class SerenityPlugin implements Plugin<Project> {
             }
         }
 
+        project.task('clearUnusedScreenshots') {
+            group = 'Serenity BDD'
+            description = "Deletes the screenshots in the shared screenshot store that are no longer used by any report"
+
+            doLast {
+                updateProperties(project)
+                def environmentVariables = Injectors.getInjector().getProvider(EnvironmentVariables).get()
+                def screenshotStore = ScreenshotStore.configuredIn(environmentVariables)
+                if (screenshotStore.isPresent()) {
+                    logger.lifecycle("Removing unused screenshots: ${screenshotStore.get().collectGarbage()}")
+                } else {
+                    logger.lifecycle("No screenshot store configured (serenity.screenshot.store)")
+                }
+            }
+        }
+
         project.task('clearHistory') {
             group = 'Serenity BDD'
             description = "Deletes the Serenity history directory"
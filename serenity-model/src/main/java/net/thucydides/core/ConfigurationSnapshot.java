@@ -0,0 +1,48 @@
+package net.thucydides.core;
+
+import net.serenitybdd.core.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.SystemEnvironmentVariables;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The values of the Serenity system properties for one version of a set of environment variables.
+ * Each property is resolved (environment-specific configuration, #{...} substitution and legacy names included)
+ * the first time it is asked for, and then kept in an array indexed by property, so that reading a property on a
+ * hot path does not have to work out the environment configuration again.
+ * SystemEnvironmentVariables replaces its snapshot whenever one of its properties changes.
+ */
+public class ConfigurationSnapshot {
+
+    private static final int PROPERTY_COUNT = ThucydidesSystemProperty.values().length;
+
+    private final EnvironmentVariables environmentVariables;
+    private final EnvironmentSpecificConfiguration environmentSpecificConfiguration;
+    private final AtomicReferenceArray<Optional<String>> values = new AtomicReferenceArray<>(PROPERTY_COUNT);
+
+    public ConfigurationSnapshot(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
+        this.environmentSpecificConfiguration = EnvironmentSpecificConfiguration.from(environmentVariables);
+    }
+
+    /**
+     * The value of a property, if it is defined and not empty.
+     */
+    public Optional<String> valueOf(ThucydidesSystemProperty property) {
+        Optional<String> value = values.get(property.ordinal());
+        if (value == null) {
+            value = property.resolveValueIn(environmentSpecificConfiguration, environmentVariables);
+            values.set(property.ordinal(), value);
+        }
+        return value;
+    }
+
+    static Optional<String> valueOf(ThucydidesSystemProperty property, EnvironmentVariables environmentVariables) {
+        if (environmentVariables instanceof SystemEnvironmentVariables) {
+            return ((SystemEnvironmentVariables) environmentVariables).getConfigurationSnapshot().valueOf(property);
+        }
+        return property.resolveValueIn(EnvironmentSpecificConfiguration.from(environmentVariables), environmentVariables);
+    }
+}
@@ -120,6 +120,13 @@ public enum ThucydidesSystemProperty {
 
     REPORT_TIMEOUT_THREADDUMPS,
 
+    /**
+     * If set to true, the aggregate report only regenerates the pages whose test outcome files have changed
+     * since the last report was produced. The outcome digests are kept in serenity-report-manifest.json
+     * in the report directory: delete this file to force a full regeneration.
+     */
+    SERENITY_REPORT_INCREMENTAL,
+
     /**
      * Link to the generated Serenity report to embed in the emailable summary report.
      */
@@ -228,6 +235,24 @@ public enum ThucydidesSystemProperty {
      */
     SCREENPLAY_PRONOUNS,
 
+    /**
+     * How Screenplay actors poll while waiting for an eventual consequence or a Wait to succeed.
+     * "fixed" (the default) waits the same time between each attempt; "backoff" doubles the wait after each
+     * failed attempt (up to screenplay.polling.max.interval) with some random jitter, so that many actors waiting
+     * in parallel do not all wake up at the same time.
+     */
+    SCREENPLAY_POLLING_STRATEGY,
+
+    /**
+     * The time in milliseconds between the first attempts to evaluate an eventual consequence. Defaults to 100.
+     */
+    SCREENPLAY_POLLING_INTERVAL,
+
+    /**
+     * The longest time in milliseconds to wait between attempts when using the "backoff" polling strategy.
+     * Defaults to 1000.
+     */
+    SCREENPLAY_POLLING_MAX_INTERVAL,
 
     @Deprecated
     THUCYDIDES_TAKE_SCREENSHOTS,
@@ -656,6 +681,12 @@ public enum ThucydidesSystemProperty {
      */
     WEBDRIVER_USE_DRIVER_SERVICE_POOL,
 
+    /**
+     * How many driver services (e.g. chromedriver processes) to run for each driver type when using a driver
+     * service pool (1 by default). New browser sessions are shared out between the services in turn.
+     */
+    WEBDRIVER_DRIVER_SERVICE_POOL_SIZE,
+
     /**
      * Full path to the Firefox profile to be used with Firefox.
      * You can include Java system properties ${user.dir}, ${user.home} and the Windows environment variables %APPDIR%
@@ -860,6 +891,13 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_DISABLE_REST_CALLS_AFTER_FAILURES,
 
+    /**
+     * The maximum number of characters of a REST request or response body to record in the reports.
+     * Larger bodies are recorded without pretty-printing and cut down to this size.
+     * By default (or if set to 0), bodies are recorded in full.
+     */
+    SERENITY_REST_MAX_BODY_SIZE,
+
     /**
      * By default, Thucydides will read requirements from the directory structure that contains the stories.
      * When other tag and requirements plugins are used, such as the JIRA plugin, this can cause conflicting
@@ -1024,6 +1062,8 @@ public enum ThucydidesSystemProperty {
     /**
      * What format should test results be generated in.
      * By default, this is "json,xml".
+     * The first format is the one the test outcomes are loaded from when the aggregate reports are generated;
+     * use "binary" for the compact binary format, which is faster to load than JSON.
      */
     OUTPUT_FORMATS,
 
@@ -1085,6 +1125,41 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_COMPRESS_SCREENSHOTS,
 
+    /**
+     * The number of threads used to process (blur, resize and save) screenshots. These threads are shared by all
+     * the test threads in the JVM. Defaults to half the number of available processors.
+     */
+    SERENITY_DARKROOM_WORKERS,
+
+    /**
+     * The maximum number of screenshots waiting to be processed, across all the test threads in the JVM.
+     * When the queue is full, screenshots are processed by the test thread that took them, which slows the tests down
+     * until the darkroom catches up. Defaults to 100.
+     */
+    SERENITY_DARKROOM_QUEUE_SIZE,
+
+    /**
+     * The PNG compression level (0 to 9) used when saving blurred or resized screenshots.
+     * Lower levels make larger files but use less CPU time. Defaults to the standard PNG compression level.
+     */
+    SERENITY_SCREENSHOT_COMPRESSION_LEVEL,
+
+    /**
+     * A directory in which screenshots are stored once, by content, and shared between report directories and builds.
+     * When set, the screenshots in the aggregate report directory are hard links to the stored copies, where
+     * the file system supports this. Unused screenshots can be removed with the clearUnusedScreenshots Gradle task.
+     */
+    SERENITY_SCREENSHOT_STORE,
+
+    /**
+     * Screenshots that look almost identical to the previous screenshot (for example, that only differ by a blinking cursor
+     * or an animated spinner) are not saved again: the previous screenshot is used instead.
+     * This is the maximum number of bits (out of 64) by which the perceptual hashes of the two screenshots can differ
+     * for them to be considered identical. Use 0 to only reuse screenshots that look the same once reduced to a thumbnail.
+     * Disabled by default, so that every distinct screenshot is kept.
+     */
+    SERENITY_SCREENSHOT_SIMILARITY_THRESHOLD,
+
     /**
      * If set, this will define the list of tag types to be excluded from the dashboard screens
      */
@@ -1160,6 +1235,28 @@ public enum ThucydidesSystemProperty {
      * Fine-tune the number of threads Serenity uses for report generation.
      */
     REPORT_THREADS,
+
+    /**
+     * The number of threads used to load test outcomes when generating the aggregate reports.
+     * Outcomes are loaded in a work-stealing pool that is shared by all the loaders in the JVM.
+     * Defaults to the number of available processors.
+     */
+    REPORT_LOADER_THREADS,
+
+    /**
+     * The maximum number of report pages that can be queued or in progress at any one time during report generation.
+     * Report pages with the most test outcomes are generated first.
+     * Defaults to twice the number of report threads.
+     */
+    REPORT_MAX_PAGES_IN_FLIGHT,
+
+    /**
+     * If set to true, each report page is rendered into a buffer that is reused by the report thread,
+     * and then written to disk in a single pass through a FileChannel.
+     * This is usually faster for very large reports. Defaults to false.
+     */
+    REPORT_PAGE_DIRECT_WRITE,
+
     REPORT_MAX_THREADS,
     REPORT_KEEP_ALIVE_TIME,
 
@@ -1406,6 +1503,29 @@ public enum ThucydidesSystemProperty {
 
     WEBDRIVER_CREATION_RETRY_MAX_TIME,
 
+    /**
+     * How many browsers of the same type can be started at the same time (by default, one per available processor).
+     * Set this to 1 to start browsers of each type one at a time, for drivers that cannot share system resources
+     * such as ports while they are starting up.
+     */
+    WEBDRIVER_CREATION_PARALLEL_LIMIT,
+
+    /**
+     * How many open browsers of each type to keep ready for reuse (0, the default, turns browser reuse off).
+     * When this is set, a browser that is closed at the end of a test is reset (cookies and local storage cleared,
+     * timeouts and window size put back, and the page set to about:blank) and kept for the next test that needs the
+     * same kind of browser. Once a browser has been kept, new browsers are started in the background to keep the pool
+     * topped up.
+     * Browsers are started before the test that will use them is known, and keep the capabilities they started with,
+     * so per-test custom capabilities (such as the test name shown by a remote grid) are not applied to pooled browsers.
+     */
+    WEBDRIVER_SESSION_POOL_SIZE,
+
+    /**
+     * How many tests a pooled browser can be used for before it is closed and replaced by a new one (20 by default).
+     */
+    WEBDRIVER_SESSION_POOL_MAX_USES,
+
     /**
      * If set to true, the name of the actor will appear in "should" statements for Screenplay tests.
      */
@@ -1432,6 +1552,8 @@ public enum ThucydidesSystemProperty {
     ;
 
     private String propertyName;
+    private final String preferredName;
+    private final String legacyName;
     public static final int DEFAULT_HEIGHT = 700;
     public static final int DEFAULT_WIDTH = 960;
 
@@ -1442,10 +1564,14 @@ public enum ThucydidesSystemProperty {
 
     ThucydidesSystemProperty(final String propertyName) {
         this.propertyName = propertyName;
+        this.preferredName = withSerenityPrefix(propertyName);
+        this.legacyName = withLegacyPrefix(propertyName);
     }
 
     ThucydidesSystemProperty() {
         this.propertyName = name().replaceAll("_",".").toLowerCase();
+        this.preferredName = withSerenityPrefix(propertyName);
+        this.legacyName = withLegacyPrefix(propertyName);
     }
 
     public String getPropertyName() {
@@ -1474,41 +1600,33 @@ public enum ThucydidesSystemProperty {
     }
 
     private Optional<String> legacyPropertyValueIfPresentIn(EnvironmentVariables environmentVariables) {
-        String legacyValue = environmentVariables.getProperty(withLegacyPrefix(getPropertyName()));
+        String legacyValue = environmentVariables.getProperty(legacyName);
         if (StringUtils.isNotEmpty(legacyValue)) {
             logger.warn("Legacy property format detected for {}, please use the serenity.* format instead.",getPropertyName());
         }
         return Optional.ofNullable(legacyValue);
     }
 
-    private String withLegacyPrefix(String propertyName) {
+    private static String withLegacyPrefix(String propertyName) {
         return propertyName.replaceAll("serenity.", "thucydides.");
     }
 
-    private String withSerenityPrefix(String propertyName) {
+    private static String withSerenityPrefix(String propertyName) {
         return propertyName.replaceAll("thucydides.", "serenity.");
     }
 
     public String preferredName(){
-        return withSerenityPrefix(getPropertyName());
+        return preferredName;
     }
 
     public List<String> legacyNames(){
         List<String> names = new ArrayList<>(1);
-        names.add(withLegacyPrefix(getPropertyName()));
+        names.add(legacyName);
         return names;
     }
 
     public String from(EnvironmentVariables environmentVariables, String defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
-
-        if (isDefined(newPropertyValue)) {
-            return newPropertyValue.get();
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? legacyValue.get() : defaultValue;
-        }
+        return valueDefinedIn(environmentVariables).orElse(defaultValue);
     }
 
     private boolean isDefined(Optional<String> newPropertyValue) {
@@ -1520,15 +1638,8 @@ public enum ThucydidesSystemProperty {
     }
 
     public int integerFrom(EnvironmentVariables environmentVariables, int defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
-
-        if (isDefined(newPropertyValue)) {
-            return Integer.parseInt(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Integer.parseInt(legacyValue.get().trim()) : defaultValue;
-        }
+        Optional<String> value = valueDefinedIn(environmentVariables);
+        return value.isPresent() ? Integer.parseInt(value.get().trim()) : defaultValue;
     }
 
     public Boolean booleanFrom(EnvironmentVariables environmentVariables) {
@@ -1538,19 +1649,28 @@ public enum ThucydidesSystemProperty {
     public Boolean booleanFrom(EnvironmentVariables environmentVariables, Boolean defaultValue) {
         if (environmentVariables == null) { return defaultValue; }
 
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
+        Optional<String> value = valueDefinedIn(environmentVariables);
+        return value.isPresent() ? Boolean.valueOf(value.get().trim()) : defaultValue;
+    }
 
-        if (isDefined(newPropertyValue)) {
-            return Boolean.valueOf(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Boolean.valueOf(legacyValue.get().trim()) : defaultValue;
-        }
+    /**
+     * The (non-empty) value of this property, read from the configuration snapshot of these environment variables.
+     */
+    private Optional<String> valueDefinedIn(EnvironmentVariables environmentVariables) {
+        return ConfigurationSnapshot.valueOf(this, environmentVariables);
     }
 
-    private Optional<String> optionalPropertyValueDefinedIn(EnvironmentVariables environmentVariables) {
-        return EnvironmentSpecificConfiguration.from(environmentVariables).getOptionalProperty(withSerenityPrefix(getPropertyName()));
+    /**
+     * Work out the value of this property from scratch, falling back on the legacy property name if need be.
+     */
+    Optional<String> resolveValueIn(EnvironmentSpecificConfiguration environmentSpecificConfiguration,
+                                    EnvironmentVariables environmentVariables) {
+        Optional<String> newPropertyValue = environmentSpecificConfiguration.getOptionalProperty(preferredName);
+        if (isDefined(newPropertyValue)) {
+            return newPropertyValue;
+        }
+        Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
+        return isDefined(legacyValue) ? legacyValue : Optional.empty();
     }
 
     public boolean isDefinedIn(EnvironmentVariables environmentVariables) {
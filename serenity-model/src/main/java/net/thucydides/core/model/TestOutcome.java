@@ -210,6 +210,11 @@ public class TestOutcome {
      */
     private transient TagProviderService tagProviderService;
 
+    /**
+     * Values worked out once the test outcome is complete (see freeze()).
+     */
+    private transient volatile FrozenValues frozenValues;
+
     /**
      * An optional qualifier used to distinguish different runs of this test in data-driven tests.
      */
@@ -357,6 +362,50 @@ public class TestOutcome {
     }
 
 
+    /**
+     * Work out the tags, result, steps and duration of a completed test outcome once, rather than each time they are
+     * needed, for example when the outcome is loaded for reporting. Changes made through the methods of this class
+     * discard these values; steps should not be modified directly once the outcome has been frozen.
+     */
+    public TestOutcome freeze() {
+        getTags();
+        frozenValues = FrozenValues.of(this);
+        return this;
+    }
+
+    private void thaw() {
+        frozenValues = null;
+    }
+
+    private static class FrozenValues {
+        private final TestResult result;
+        private final List<TestStep> flattenedTestSteps;
+        private final List<TestStep> leafTestSteps;
+        private final Long duration;
+
+        private FrozenValues(TestResult result, List<TestStep> flattenedTestSteps, List<TestStep> leafTestSteps, Long duration) {
+            this.result = result;
+            this.flattenedTestSteps = flattenedTestSteps;
+            this.leafTestSteps = leafTestSteps;
+            this.duration = duration;
+        }
+
+        static FrozenValues of(TestOutcome testOutcome) {
+            return new FrozenValues(testOutcome.getResult(),
+                                    Collections.unmodifiableList(testOutcome.getFlattenedTestSteps()),
+                                    Collections.unmodifiableList(testOutcome.getLeafTestSteps()),
+                                    testOutcome.getDuration());
+        }
+
+        /**
+         * A copy of a test outcome with the same steps can share the steps and duration, but not the result,
+         * which also depends on fields that are not copied.
+         */
+        static FrozenValues forCopy(TestOutcome copy, FrozenValues original) {
+            return new FrozenValues(copy.getResult(), original.flattenedTestSteps, original.leafTestSteps, original.duration);
+        }
+    }
+
     private TagProviderService getTagProviderService() {
         if (tagProviderService == null) {
             tagProviderService = Injectors.getInjector().getInstance(TagProviderService.class);
@@ -735,6 +784,7 @@ public class TestOutcome {
     }
 
     public void setAllStepsTo(TestResult result) {
+        thaw();
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
@@ -748,6 +798,7 @@ public class TestOutcome {
     }
 
     public void clearForcedResult() {
+        thaw();
         annotatedResult = null;
     }
 
@@ -760,6 +811,7 @@ public class TestOutcome {
     }
 
     public void resetFailingStepsCausedBy(Class<? extends Throwable> expected) {
+        thaw();
         for (TestStep step : testSteps) {
             resetFailingStepsIn(step).causedBy(expected);
         }
@@ -782,6 +834,7 @@ public class TestOutcome {
     }
 
     public void mergeMostRecentSteps(int maxStepsToMerge) {
+        thaw();
         checkArgument(maxStepsToMerge > 0);
 
         List<TestStep> stepsToMerge = getLast(maxStepsToMerge).steps();
@@ -794,6 +847,7 @@ public class TestOutcome {
     }
 
     public void updateOverallResults() {
+        thaw();
         updateOverallResultsFor(testSteps);
     }
 
@@ -869,6 +923,7 @@ public class TestOutcome {
     }
 
     public void updateTopLevelStepResultsTo(TestResult result) {
+        thaw();
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
@@ -1251,6 +1306,10 @@ public class TestOutcome {
     }
 
     public List<TestStep> getFlattenedTestSteps() {
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.flattenedTestSteps;
+        }
         List<TestStep> flattenedTestSteps = new ArrayList<>();
         for (TestStep step : getTestSteps()) {
             flattenedTestSteps.add(step);
@@ -1262,6 +1321,10 @@ public class TestOutcome {
     }
 
     public List<TestStep> getLeafTestSteps() {
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.leafTestSteps;
+        }
         List<TestStep> leafTestSteps = new ArrayList<TestStep>();
         for (TestStep step : getTestSteps()) {
             if (step.isAGroup()) {
@@ -1288,6 +1351,11 @@ public class TestOutcome {
             return result;
         }
 
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.result;
+        }
+
         if ((TestResult.IGNORED == annotatedResult) || (TestResult.SKIPPED == annotatedResult) || TestResult.PENDING == annotatedResult) {
             return annotatedResult;
         }
@@ -1326,6 +1394,7 @@ public class TestOutcome {
      * @return this TestOucome insstance - this is a convenience to allow method chaining.
      */
     public TestOutcome recordStep(final TestStep step) {
+        thaw();
         Preconditions.checkNotNull(step.getDescription(), "The test step description was not defined.");
         if (inGroup()) {
             getCurrentStepGroup().addChildStep(step);
@@ -1337,6 +1406,7 @@ public class TestOutcome {
     }
 
     private void addStep(TestStep step) {
+        thaw();
 //        testSteps.add(step);
 //        renumberTestSteps();
         List<TestStep> updatedSteps = new ArrayList<>(testSteps);
@@ -1346,6 +1416,7 @@ public class TestOutcome {
     }
 
     private void addSteps(List<TestStep> steps) {
+        thaw();
         List<TestStep> updatedSteps = new ArrayList<>(testSteps);
         updatedSteps.addAll(steps);
         renumberTestSteps(updatedSteps);
@@ -1473,6 +1544,7 @@ public class TestOutcome {
     }
 
     public void determineTestFailureCause(Throwable cause) {
+        thaw();
         if (cause != null) {
             RootCauseAnalyzer rootCauseAnalyser = new RootCauseAnalyzer(SerenityManagedException.detachedCopyOf(cause));
             FailureCause rootCause = rootCauseAnalyser.getRootCause();
@@ -1510,6 +1582,7 @@ public class TestOutcome {
     }
 
     public void appendTestFailure(TestFailureCause failureCause) {
+        thaw();
         if (!failureCause.isDefined()) {
             noTestFailureIsDefined();
             return;
@@ -1605,6 +1678,7 @@ public class TestOutcome {
     }
 
     public void setAnnotatedResult(final TestResult annotatedResult) {
+        thaw();
         if (this.annotatedResult != TestResult.PENDING) {
             this.annotatedResult = (this.annotatedResult == null) ?
                     annotatedResult : TestResultComparison.overallResultFor(this.annotatedResult, annotatedResult);
@@ -1612,10 +1686,12 @@ public class TestOutcome {
     }
 
     public void overrideAnnotatedResult(final TestResult annotatedResult) {
+        thaw();
         this.annotatedResult = annotatedResult;
     }
 
     public void setResult(final TestResult annotatedResult) {
+        thaw();
         this.annotatedResult = annotatedResult;
     }
 
@@ -1762,6 +1838,7 @@ public class TestOutcome {
     }
 
     public void addFailingStepAsSibling(List<TestStep> testStepList, Throwable testFailureCause) {
+        thaw();
         if (testStepList.isEmpty()) {
             addStep(failingStep(testFailureCause));
         } else {
@@ -1785,6 +1862,7 @@ public class TestOutcome {
     }
 
     public void lastStepFailedWith(Throwable testFailureCause) {
+        thaw();
         determineTestFailureCause(testFailureCause);
         TestStep lastTestStep = testSteps.get(testSteps.size() - 1);
         lastTestStep.failedWith(new StepFailureException(testFailureCause.getMessage(), testFailureCause));
@@ -2222,6 +2300,7 @@ public class TestOutcome {
     }
 
     public void setDuration(final long duration) {
+        thaw();
         this.duration = duration;
     }
 
@@ -2230,6 +2309,11 @@ public class TestOutcome {
             return duration;
         }
 
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            return frozen.duration;
+        }
+
         return testSteps
                 .stream()
                 .mapToLong(TestStep::getDuration)
@@ -2545,6 +2629,7 @@ public class TestOutcome {
     }
 
     private void removeSteps(List<TestStep> stepsToReplace) {
+        thaw();
 //        List<TestStep> currentTestSteps = new ArrayList<>(testSteps);
 //        for (TestStep testStep : currentTestSteps) {
 //            if (stepsToReplace.contains(testStep)) {
@@ -2615,10 +2700,10 @@ public class TestOutcome {
         Collection<TestTag> redundantTags = new HashSet<>(originalDataTableTags);
         redundantTags.removeAll(filteredDataTableTags);
 
-        Set<TestTag> outcomeTagsWithoutRedundentTags = new HashSet<>(tags);
+        Set<TestTag> outcomeTagsWithoutRedundentTags = new HashSet<>(getTags());
         outcomeTagsWithoutRedundentTags.removeAll(redundantTags);
 
-        return new TestOutcome(startTime,
+        TestOutcome filteredOutcome = new TestOutcome(startTime,
                 duration,
                 title,
                 description,
@@ -2645,5 +2730,11 @@ public class TestOutcome {
                 manualTestEvidence,
                 projectKey,
                 environmentVariables);
+
+        FrozenValues frozen = frozenValues;
+        if (frozen != null) {
+            filteredOutcome.frozenValues = FrozenValues.forCopy(filteredOutcome, frozen);
+        }
+        return filteredOutcome;
     }
 }
@@ -1,6 +1,7 @@
 package net.thucydides.core.model;
 
 import java.nio.file.Path;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +16,10 @@ public class TestOutcomeSummary {
     private TestResult testResult;
     private String reportName;
     private String name;
+    private String id;
+    private ZonedDateTime startTime;
+    private Long duration;
+    private int testCount;
 
     public TestOutcomeSummary(TestOutcome testOutcome) {
         this.issues.addAll(testOutcome.getIssues());
@@ -22,6 +27,10 @@ public class TestOutcomeSummary {
         this.testResult = testOutcome.getResult();
         this.reportName = testOutcome.getReportName();
         this.name = testOutcome.getName();
+        this.id = testOutcome.getId();
+        this.startTime = testOutcome.getStartTime();
+        this.duration = testOutcome.getDuration();
+        this.testCount = testOutcome.getTestCount();
     }
 
     public TestOutcomeSummary(TestOutcome testOutcome, Path testReportLink) {
@@ -50,4 +59,12 @@ public class TestOutcomeSummary {
     }
 
     public String getName() { return name; }
+
+    public String getId() { return id; }
+
+    public ZonedDateTime getStartTime() { return startTime; }
+
+    public Long getDuration() { return duration; }
+
+    public int getTestCount() { return testCount; }
 }
@@ -8,12 +8,21 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class StackTraceAnalyser {
 
     private final StackTraceElement stackTraceElement;
-    private final Logger logger = LoggerFactory.getLogger(StackTraceAnalyser.class);
+    private static final Logger logger = LoggerFactory.getLogger(StackTraceAnalyser.class);
+
+    /**
+     * Stack trace elements for the same method always resolve to the same method (or to none), so the result is
+     * cached rather than loading the class and looking up the method for every frame of every stack trace analysed.
+     */
+    private static final Map<String, Optional<Method>> IN_SCOPE_METHODS = new ConcurrentHashMap<>();
 
     private StackTraceAnalyser(StackTraceElement stackTraceElement) {
         this.stackTraceElement = stackTraceElement;
@@ -24,11 +33,27 @@ public class StackTraceAnalyser {
     }
 
     public Method getMethod() {
+        if (!allowedClassName(stackTraceElement.getClassName()) || lambda(stackTraceElement.getClassName())) {
+            return null;
+        }
+        String methodKey = methodKey(stackTraceElement);
+        Optional<Method> method = IN_SCOPE_METHODS.get(methodKey);
+        if (method == null) {
+            method = Optional.ofNullable(findMethod());
+            IN_SCOPE_METHODS.put(methodKey, method);
+        }
+        return method.orElse(null);
+    }
+
+    private static String methodKey(StackTraceElement stackTraceElement) {
+        return stackTraceElement.getClassName() + "#" + stackTraceElement.getMethodName()
+                + (isInstrumentedMethod(stackTraceElement) ? "<generated>" : "");
+    }
+
+    private Method findMethod() {
         try {
-            if (allowedClassName(stackTraceElement.getClassName()) && !lambda(stackTraceElement.getClassName())) {
-                Class callingClass = Class.forName(stackTraceElement.getClassName());
-                return extractMethod(stackTraceElement, callingClass);
-            }
+            Class callingClass = Class.forName(stackTraceElement.getClassName());
+            return extractMethod(stackTraceElement, callingClass);
         } catch (ClassNotFoundException classNotFoundIgnored) {
             logger.debug("Couldn't find class during Stack analysis: " + classNotFoundIgnored.getLocalizedMessage());
         } catch (NoClassDefFoundError noClassDefFoundErrorIgnored) {
@@ -0,0 +1,14 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.model.TestOutcome;
+
+/**
+ * Loaded test outcomes are complete, so their tags, result and steps can be worked out once for the reporting phase.
+ */
+public class FrozenOutcomeAugmenter implements OutcomeAugmenter {
+
+    @Override
+    public TestOutcome augment(TestOutcome testOutcome) {
+        return testOutcome.freeze();
+    }
+}
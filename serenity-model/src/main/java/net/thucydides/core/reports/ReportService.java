@@ -16,6 +16,7 @@ import java.nio.charset.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Generates different Thucydides reports in a given output directory.
@@ -23,7 +24,9 @@ import java.util.concurrent.*;
 @SuppressWarnings("restriction")
 public class ReportService {
 
-    private final int maximumPoolSize;
+    private final EnvironmentVariables environmentVariables;
+
+    private final ReportWriterMetrics writerMetrics = new ReportWriterMetrics();
     /**
      * Where will the reports go?
      */
@@ -78,7 +81,7 @@ public class ReportService {
         getSubscribedReporters().addAll(subscribedReporters);
         getSubscribedFullReporters().addAll(subscribedFullReporters);
         jUnitXMLOutcomeReporter = new JUnitXMLOutcomeReporter(outputDirectory);
-        this.maximumPoolSize = ThucydidesSystemProperty.REPORT_MAX_THREADS.integerFrom(environmentVariables, Runtime.getRuntime().availableProcessors());
+        this.environmentVariables = environmentVariables;
     }
 
     public void setOutputDirectory(File outputDirectory) {
@@ -99,6 +102,13 @@ public class ReportService {
         return subscribedFullReporters;
     }
 
+    /**
+     * How many test outcome reports this service has written, and how quickly.
+     */
+    public ReportWriterMetrics getWriterMetrics() {
+        return writerMetrics;
+    }
+
     public void subscribe(final AcceptanceTestReporter reporter) {
         getSubscribedReporters().add(reporter);
     }
@@ -123,9 +133,7 @@ public class ReportService {
 
     public void generateReportsFor(final List<TestOutcome> testOutcomeResults) {
         final TestOutcomes allTestOutcomes = TestOutcomes.of(testOutcomeResults);
-        for (final AcceptanceTestReporter reporter : getSubscribedReporters()) {
-            generateReportsFor(reporter, allTestOutcomes);
-        }
+        generateReportsFor(getSubscribedReporters(), allTestOutcomes);
         for (final AcceptanceTestFullReporter reporter : getSubscribedFullReporters()) {
             generateFullReportFor(allTestOutcomes, reporter);
         }
@@ -161,31 +169,46 @@ public class ReportService {
 
     }
 
-    private void generateReportsFor(final AcceptanceTestReporter reporter, final TestOutcomes testOutcomes) {
-        LOGGER.debug("Generating reports for " + testOutcomes.getTotalTestScenarios() + " test outcomes using: " + reporter);
-        long t0 = System.currentTimeMillis();
+    /**
+     * The reports for each outcome are written on the report writer threads shared by all the report services.
+     * The reporters for a given outcome run one after the other, as they may update the outcome while they write it.
+     */
+    private void generateReportsFor(final List<AcceptanceTestReporter> reporters, final TestOutcomes testOutcomes) {
+        LOGGER.debug("Generating reports for " + testOutcomes.getTotalTestScenarios() + " test outcomes using: " + reporters);
+        long t0 = System.nanoTime();
 
         List<? extends TestOutcome> outcomes = testOutcomes.getOutcomes();
+        ExecutorService reportWriters = ReportWriterPool.sharedPoolFor(environmentVariables);
 
-        ExecutorService executorService = Executors.newFixedThreadPool(maximumPoolSize);
+        for (final AcceptanceTestReporter reporter : reporters) {
+            reporter.setOutputDirectory(outputDirectory);
+        }
 
+        final LongAdder reportsWritten = new LongAdder();
+        final LongAdder reportsFailed = new LongAdder();
+        final List<Future<?>> tasks = new ArrayList<>(outcomes.size());
+        for (final TestOutcome outcome : outcomes) {
+            tasks.add(reportWriters.submit(() -> {
+                LOGGER.debug("Processing test outcome " + outcome.getCompleteName());
+                for (final AcceptanceTestReporter reporter : reporters) {
+                    try {
+                        generateReportFor(outcome, reporter);
+                        reportsWritten.increment();
+                    } catch (ReportGenerationFailedError failure) {
+                        reportsFailed.increment();
+                        throw failure;
+                    }
+                }
+                LOGGER.debug("Processing test outcome " + outcome.getCompleteName() + " done");
+            }));
+        }
         try {
-            final ArrayList<Future> tasks = new ArrayList<>(outcomes.size());
-            for (final TestOutcome outcome : outcomes) {
-                tasks.add(executorService.submit(() -> {
-                    LOGGER.debug("Processing test outcome " + outcome.getCompleteName());
-                    generateReportFor(outcome, reporter);
-                    LOGGER.debug("Processing test outcome " + outcome.getCompleteName() + " done");
-                }));
-            }
             waitForReportGenerationToFinish(tasks);
         } finally {
-            LOGGER.debug("Shutting down executor service");
-            executorService.shutdown();
+            writerMetrics.recordBatch(reportsWritten.intValue(), reportsFailed.intValue(), System.nanoTime() - t0);
         }
 
-        LOGGER.debug("Reports generated in: " + (System.currentTimeMillis() - t0) + " ms");
-
+        LOGGER.debug("Reports generated in: " + (System.nanoTime() - t0) / 1000000 + " ms (" + writerMetrics + " so far)");
     }
 
     /**
@@ -195,9 +218,9 @@ public class ReportService {
         jUnitXMLOutcomeReporter.generateReportsFor(outcomes);
     }
 
-    private void waitForReportGenerationToFinish(List<Future> tasks) {
+    private void waitForReportGenerationToFinish(List<Future<?>> tasks) {
         try {
-            for (Future task : tasks) {
+            for (Future<?> task : tasks) {
                 task.get();
             }
         } catch (InterruptedException | ExecutionException | CancellationException e) {
@@ -235,7 +258,6 @@ public class ReportService {
                                    final AcceptanceTestReporter reporter) {
         try {
             LOGGER.debug(reporter + ": Generating report for test outcome: " + testOutcome.getCompleteName());
-            reporter.setOutputDirectory(outputDirectory);
             reporter.generateReportFor(testOutcome);
         } catch (Exception e) {
             throw new ReportGenerationFailedError(
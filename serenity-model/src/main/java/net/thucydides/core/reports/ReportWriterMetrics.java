@@ -0,0 +1,48 @@
+package net.thucydides.core.reports;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How many test outcome reports a report service has written (or failed to write), and how long it has spent
+ * writing them.
+ */
+public class ReportWriterMetrics {
+
+    private final LongAdder reportsWritten = new LongAdder();
+    private final LongAdder reportsFailed = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    void recordBatch(int reportsWrittenInBatch, int reportsFailedInBatch, long elapsedTimeInNanos) {
+        reportsWritten.add(reportsWrittenInBatch);
+        reportsFailed.add(reportsFailedInBatch);
+        elapsedNanos.add(elapsedTimeInNanos);
+    }
+
+    public long getReportsWritten() {
+        return reportsWritten.sum();
+    }
+
+    public long getReportsFailed() {
+        return reportsFailed.sum();
+    }
+
+    /**
+     * The wall-clock time spent waiting for the reports to be written.
+     */
+    public Duration getTimeSpentWriting() {
+        return Duration.ofNanos(elapsedNanos.sum());
+    }
+
+    public double getReportsPerSecond() {
+        long nanos = elapsedNanos.sum();
+        return (nanos == 0) ? 0.0 : reportsWritten.sum() * 1000000000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d reports written (%d failed) in %d ms (%.1f reports/s)",
+                             getReportsWritten(), getReportsFailed(), getTimeSpentWriting().toMillis(),
+                             getReportsPerSecond());
+    }
+}
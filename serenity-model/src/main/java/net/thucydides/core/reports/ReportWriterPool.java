@@ -0,0 +1,52 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.thucydides.core.ThucydidesSystemProperty.REPORT_MAX_THREADS;
+
+/**
+ * The thread pool shared by all the report services in this JVM to write the reports for individual test outcomes.
+ * The pool threads are daemon threads that time out when they are idle, so the pool never needs to be shut down.
+ */
+class ReportWriterPool {
+
+    private static final long IDLE_THREAD_TIMEOUT_IN_SECONDS = 30;
+
+    private static ExecutorService sharedPool;
+
+    static synchronized ExecutorService sharedPoolFor(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            int writerThreads = writerThreadsDefinedIn(environmentVariables);
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(writerThreads, writerThreads,
+                                                             IDLE_THREAD_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ReportWriterThreadFactory());
+            pool.allowCoreThreadTimeOut(true);
+            sharedPool = pool;
+        }
+        return sharedPool;
+    }
+
+    private static int writerThreadsDefinedIn(EnvironmentVariables environmentVariables) {
+        int configuredThreads = REPORT_MAX_THREADS.integerFrom(environmentVariables, 0);
+        return (configuredThreads > 0) ? configuredThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static class ReportWriterThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "serenity-report-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestTag;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Lookup tables over a sorted list of test outcomes, built once and shared by all of the filtered views of these outcomes.
+ * Each table maps a tag, tag type, tag name, issue, result or error type to the positions of the matching outcomes
+ * in the outcome list, so that a filtered set of outcomes can be found by combining bit sets
+ * rather than by scanning every outcome.
+ * The tag lookups return candidate outcomes, which still need to be checked against the exact matching rules.
+ */
+class TestOutcomeIndex {
+
+    private final List<? extends TestOutcome> outcomes;
+
+    private volatile Tables tables;
+
+    TestOutcomeIndex(List<? extends TestOutcome> outcomes) {
+        this.outcomes = outcomes;
+        this.tables = new Tables();
+    }
+
+    /**
+     * Rebuild the lookup tables after the tags (or anything else indexed) of the outcomes have changed.
+     * The positions of the outcomes do not change, so the views sharing this index stay valid.
+     */
+    void reindex() {
+        tables = new Tables();
+    }
+
+    private class Tables {
+        private final Map<TestTag, BitSet> outcomesByTag = new HashMap<>();
+        private final Map<String, BitSet> outcomesByTagType = new HashMap<>();
+        private final Map<String, BitSet> outcomesByTagName = new HashMap<>();
+        private final Map<String, BitSet> outcomesByIssue = new HashMap<>();
+        private final Map<TestResult, BitSet> outcomesByResult = new EnumMap<>(TestResult.class);
+        private final Map<TestResult, BitSet> outcomesByScenarioResult = new EnumMap<>(TestResult.class);
+        private final Map<String, BitSet> outcomesByErrorType = new HashMap<>();
+
+        Tables() {
+            for (int position = 0; position < outcomes.size(); position++) {
+                index(outcomes.get(position), position);
+            }
+        }
+
+        private void index(TestOutcome outcome, int position) {
+            for (TestTag tag : outcome.getAllTags()) {
+                mark(outcomesByTag, tag, position);
+            }
+            for (TestTag tag : outcome.getTags()) {
+                mark(outcomesByTagType, tag.getType().toLowerCase(), position);
+                mark(outcomesByTagName, tag.getName().toLowerCase(), position);
+            }
+            outcome.getIssues().forEach(issue -> mark(outcomesByIssue, issue, position));
+            mark(outcomesByResult, outcome.getResult(), position);
+            scenarioResultsOf(outcome).forEach(result -> mark(outcomesByScenarioResult, result, position));
+            errorTypesOf(outcome).forEach(errorType -> mark(outcomesByErrorType, errorType, position));
+        }
+
+        private <K> void mark(Map<K, BitSet> table, K key, int position) {
+            if (key != null) {
+                table.computeIfAbsent(key, k -> new BitSet(outcomes.size())).set(position);
+            }
+        }
+    }
+
+    private Stream<TestResult> scenarioResultsOf(TestOutcome outcome) {
+        if (!outcome.isDataDriven()) {
+            return Stream.of(outcome.getResult());
+        }
+        return outcome.getDataTable().getRows().stream().map(row -> row.getResult());
+    }
+
+    private Stream<String> errorTypesOf(TestOutcome outcome) {
+        if (!outcome.isDataDriven()) {
+            return (outcome.getResult().isAtLeast(TestResult.FAILURE)) ? Stream.of(outcome.getTestFailureErrorType()) : Stream.empty();
+        }
+        return outcome.getTestSteps().stream()
+                .filter(step -> step.getResult().isAtLeast(TestResult.FAILURE) && step.getException() != null)
+                .map(step -> step.getException().getErrorType());
+    }
+
+    int size() {
+        return outcomes.size();
+    }
+
+    TestOutcome get(int position) {
+        return outcomes.get(position);
+    }
+
+    List<TestOutcome> outcomesIn(BitSet positions) {
+        List<TestOutcome> selectedOutcomes = new ArrayList<>(positions.cardinality());
+        positions.stream().forEach(position -> selectedOutcomes.add(outcomes.get(position)));
+        return selectedOutcomes;
+    }
+
+    BitSet allOutcomes() {
+        BitSet allOutcomes = new BitSet(outcomes.size());
+        allOutcomes.set(0, outcomes.size());
+        return allOutcomes;
+    }
+
+    /**
+     * Outcomes with this tag or with a more general form of this tag (e.g. "a/b" for the tag "a/b/c").
+     */
+    BitSet candidatesWithTag(TestTag tag) {
+        Map<TestTag, BitSet> outcomesByTag = tables.outcomesByTag;
+        BitSet candidates = lookup(outcomesByTag, tag);
+        String name = tag.normalisedName();
+        for (int separator = name.indexOf('/'); separator >= 0; separator = name.indexOf('/', separator + 1)) {
+            candidates.or(lookup(outcomesByTag, TestTag.withName(name.substring(separator + 1)).andType(tag.getType())));
+        }
+        return candidates;
+    }
+
+    BitSet candidatesWithTagType(String tagType) {
+        return lookup(tables.outcomesByTagType, tagType.toLowerCase());
+    }
+
+    BitSet candidatesWithTagName(String tagName) {
+        return lookup(tables.outcomesByTagName, tagName.toLowerCase());
+    }
+
+    BitSet withIssue(String issue) {
+        return lookup(tables.outcomesByIssue, issue);
+    }
+
+    /**
+     * Outcomes whose overall result is one of the given results.
+     */
+    BitSet withOverallResultIn(TestResult... results) {
+        Map<TestResult, BitSet> outcomesByResult = tables.outcomesByResult;
+        BitSet matching = new BitSet(outcomes.size());
+        for (TestResult result : results) {
+            matching.or(lookup(outcomesByResult, result));
+        }
+        return matching;
+    }
+
+    /**
+     * Outcomes with at least one scenario (or data table row, for data-driven tests) with one of the given results.
+     */
+    BitSet withScenarioResultIn(TestResult... results) {
+        Map<TestResult, BitSet> outcomesByScenarioResult = tables.outcomesByScenarioResult;
+        BitSet matching = new BitSet(outcomes.size());
+        for (TestResult result : results) {
+            matching.or(lookup(outcomesByScenarioResult, result));
+        }
+        return matching;
+    }
+
+    BitSet withErrorType(String errorType) {
+        return lookup(tables.outcomesByErrorType, errorType);
+    }
+
+    private <K> BitSet lookup(Map<K, BitSet> table, K key) {
+        BitSet positions = table.get(key);
+        return (positions == null) ? new BitSet(outcomes.size()) : (BitSet) positions.clone();
+    }
+}
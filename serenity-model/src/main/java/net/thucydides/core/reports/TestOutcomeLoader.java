@@ -4,20 +4,23 @@ import com.google.inject.Inject;
 import net.serenitybdd.core.collect.NewList;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestOutcomeSummary;
+import net.thucydides.core.reports.binary.BinaryTestOutcomeReporter;
 import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
 import net.thucydides.core.reports.junit.JUnitXMLOutcomeReporter;
 import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
 import net.thucydides.core.util.EnvironmentVariables;
 
 import java.io.File;
-import java.io.FilenameFilter;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Loads test outcomes from a given directory, and reports on their contents.
@@ -25,6 +28,11 @@ import java.util.stream.Collectors;
  */
 public class TestOutcomeLoader {
 
+    /**
+     * Written by the aggregate reporter alongside the outcomes, so never an outcome file itself.
+     */
+    public static final String REPORT_TIMINGS_FILE = "serenity-report-timings.json";
+
     private final EnvironmentVariables environmentVariables;
     private final FormatConfiguration formatConfiguration;
 
@@ -55,72 +63,64 @@ public class TestOutcomeLoader {
      * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
      */
     public List<TestOutcome> loadFrom(final File reportDirectory) throws ReportLoadingFailedError {
+        List<TestOutcome> testOutcomes = inTestOutcomeStream(reportDirectory,
+                                                             outcomes -> outcomes.collect(Collectors.toList()));
+        return inOrderOfTestExecution(testOutcomes);
+    }
 
-        try {
-            final List<Callable<Set<TestOutcome>>> partitions = new ArrayList<>();
-            final AcceptanceTestLoader testOutcomeReporter = getOutcomeReporter();
-
-            for(File sourceFile : getAllOutcomeFilesFrom(reportDirectory)) {
-                partitions.add(new TestOutcomeLoaderCallable(testOutcomeReporter,sourceFile));
-            }
-
-            final ExecutorService executorPool = Executors.newFixedThreadPool(20);//NumberOfThreads.forIOOperations());
-            final List<Future<Set<TestOutcome>>> loadedTestOutcomes = executorPool.invokeAll(partitions);
+    /**
+     * Process each test outcome in a directory as soon as it is loaded, without keeping the full list of outcomes in memory.
+     * The action is called from the loader threads, so it needs to be thread-safe.
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
+     * @param action What to do with each test outcome.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
+     */
+    public void forEachOutcomeIn(final File reportDirectory, final Consumer<TestOutcome> action) throws ReportLoadingFailedError {
+        inTestOutcomeStream(reportDirectory, outcomes -> {
+            outcomes.forEach(action);
+            return null;
+        });
+    }
 
-            List<TestOutcome> testOutcomes = new ArrayList<>();
-            for(Future<Set<TestOutcome>> loadedTestOutcome : loadedTestOutcomes) {
-                testOutcomes.addAll(loadedTestOutcome.get());
-            }
-            executorPool.shutdown();
+    /**
+     * Load lightweight summaries of the test outcomes in a directory.
+     * Only one full test outcome (with its steps and screenshots) is kept in memory per loader thread.
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
+     * @return The test outcome summaries, in order of test execution.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
+     */
+    public List<TestOutcomeSummary> loadSummariesFrom(final File reportDirectory) throws ReportLoadingFailedError {
+        return inTestOutcomeStream(reportDirectory,
+                outcomes -> outcomes.map(TestOutcomeSummary::new)
+                                    .sorted(Comparator.comparing(TestOutcomeSummary::getStartTime,
+                                                                 Comparator.nullsFirst(Comparator.naturalOrder())))
+                                    .collect(Collectors.toList()));
+    }
 
-            return inOrderOfTestExecution(testOutcomes);
+    private <T> T inTestOutcomeStream(final File reportDirectory,
+                                      final Function<Stream<TestOutcome>, T> processOutcomes) throws ReportLoadingFailedError {
+        if (!reportDirectory.isDirectory()) {
+            throw new ReportLoadingFailedError("Can not load reports for some reason",
+                                               new IOException("Could not find directory " + reportDirectory));
+        }
+        try (TestOutcomeStream testOutcomeStream = TestOutcomeStream.testOutcomesInDirectory(reportDirectory.toPath(),
+                                                                                             new SerializedOutcomeFilenameFilter(),
+                                                                                             getOutcomeReporter(),
+                                                                                             AUGMENTERS)) {
+            ForkJoinPool loaderPool = TestOutcomeLoaderPool.sharedPoolFor(environmentVariables);
+            return loaderPool.submit(() -> processOutcomes.apply(testOutcomeStream.parallelStream())).get();
         } catch (Exception e) {
             throw new ReportLoadingFailedError("Can not load reports for some reason", e);
         }
-
     }
 
     private final static List<? extends OutcomeAugmenter> AUGMENTERS = NewList.of(
-            new FlagsAugmenter()
+            new FlagsAugmenter(),
+            new FrozenOutcomeAugmenter()
     );
 
-    class TestOutcomeLoaderCallable implements Callable<Set<TestOutcome>> {
-
-        private final File sourceFile;
-        private final AcceptanceTestLoader testOutcomeReporter;
-
-        TestOutcomeLoaderCallable(AcceptanceTestLoader testOutcomeReporter, File sourceFile) {
-            this.testOutcomeReporter = testOutcomeReporter;
-            this.sourceFile = sourceFile;
-        }
-
-        @Override
-        public Set<TestOutcome> call() throws Exception {
-            java.util.Optional<TestOutcome> loadedTestOutcome = testOutcomeReporter.loadReportFrom(sourceFile);
-
-            return loadedTestOutcome.map(Collections::singleton).orElse(Collections.emptySet())
-                    .stream()
-                    .map(this::augmented)
-                    .collect(Collectors.toSet());
-        }
-
-        private TestOutcome augmented(final TestOutcome testOutcome) {
-
-            AUGMENTERS.forEach(
-                    augmenter -> augmenter.augment(testOutcome)
-            );
-            return testOutcome;
-        }
-    }
-
-    private List<File> getAllOutcomeFilesFrom(final File reportsDirectory) throws IOException{
-        File[] matchingFiles = reportsDirectory.listFiles(new SerializedOutcomeFilenameFilter());
-        if (matchingFiles == null) {
-            throw new IOException("Could not find directory " + reportsDirectory);
-        }
-        return NewList.copyOf(matchingFiles);
-    }
-
     public static TestOutcomeLoaderBuilder loadTestOutcomes() {
         return new TestOutcomeLoaderBuilder();
     }
@@ -160,16 +160,20 @@ public class TestOutcomeLoader {
                 return new XMLTestOutcomeReporter();
             case JSON:
                 return new JSONTestOutcomeReporter();
+            case BINARY:
+                return new BinaryTestOutcomeReporter();
             default:
                 throw new IllegalArgumentException("Unsupported report format: " + formatConfiguration.getPreferredFormat());
         }
     }
 
-    private class SerializedOutcomeFilenameFilter implements FilenameFilter {
-        public boolean accept(final File file, final String filename) {
+    private class SerializedOutcomeFilenameFilter implements DirectoryStream.Filter<Path> {
+        public boolean accept(final Path file) {
+            String filename = file.getFileName().toString();
             return (filename.toLowerCase(Locale.getDefault()).endsWith(formatConfiguration.getPreferredFormat().getExtension())
                     && (!filename.endsWith(".features.json"))
                     && (!filename.endsWith("manifest.json"))
+                    && (!filename.equals(REPORT_TIMINGS_FILE))
                     && (!filename.startsWith(JUnitXMLOutcomeReporter.FILE_PREFIX))) ;
         }
     }
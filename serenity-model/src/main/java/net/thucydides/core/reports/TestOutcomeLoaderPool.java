@@ -0,0 +1,28 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static net.thucydides.core.ThucydidesSystemProperty.REPORT_LOADER_THREADS;
+
+/**
+ * The work-stealing pool shared by all the test outcome loaders in this JVM.
+ * The pool threads are daemon threads, so the pool never needs to be shut down.
+ */
+class TestOutcomeLoaderPool {
+
+    private static ForkJoinPool sharedPool;
+
+    static synchronized ForkJoinPool sharedPoolFor(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            sharedPool = new ForkJoinPool(loaderThreadsDefinedIn(environmentVariables));
+        }
+        return sharedPool;
+    }
+
+    private static int loaderThreadsDefinedIn(EnvironmentVariables environmentVariables) {
+        int configuredThreads = REPORT_LOADER_THREADS.integerFrom(environmentVariables, 0);
+        return (configuredThreads > 0) ? configuredThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
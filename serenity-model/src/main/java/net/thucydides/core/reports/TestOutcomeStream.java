@@ -8,9 +8,9 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static net.thucydides.core.reports.TestOutcomeStream.NextItemIs.*;
 
@@ -19,15 +19,49 @@ public class TestOutcomeStream implements Iterable<TestOutcome>, Closeable {
     private final DirectoryStream<Path> directoryStream;
     private final Iterator<Path> directoryStreamIterator;
     private final AcceptanceTestLoader loader;
-
-    private TestOutcomeStream(Path sourceDirectory) throws IOException {
-        this.directoryStream = Files.newDirectoryStream(sourceDirectory);
-        this.directoryStreamIterator = Files.newDirectoryStream(sourceDirectory).iterator();
-        this.loader = new JSONTestOutcomeReporter();
+    private final List<? extends OutcomeAugmenter> augmenters;
+
+    private TestOutcomeStream(Path sourceDirectory,
+                              DirectoryStream.Filter<Path> filter,
+                              AcceptanceTestLoader loader,
+                              List<? extends OutcomeAugmenter> augmenters) throws IOException {
+        this.directoryStream = Files.newDirectoryStream(sourceDirectory, filter);
+        this.directoryStreamIterator = directoryStream.iterator();
+        this.loader = loader;
+        this.augmenters = augmenters;
     }
 
     public static TestOutcomeStream testOutcomesInDirectory(Path sourceDirectory) throws IOException {
-        return new TestOutcomeStream(sourceDirectory);
+        return new TestOutcomeStream(sourceDirectory, path -> true, new JSONTestOutcomeReporter(), Collections.emptyList());
+    }
+
+    /**
+     * A stream of the outcomes in the matching files of a directory, loaded with the given loader.
+     * Each augmenter is applied to an outcome as soon as it has been loaded.
+     */
+    public static TestOutcomeStream testOutcomesInDirectory(Path sourceDirectory,
+                                                            DirectoryStream.Filter<Path> filter,
+                                                            AcceptanceTestLoader loader,
+                                                            List<? extends OutcomeAugmenter> augmenters) throws IOException {
+        return new TestOutcomeStream(sourceDirectory, filter, loader, augmenters);
+    }
+
+    /**
+     * Load the test outcomes lazily, in parallel. Outcomes are only read from disk when the stream is consumed,
+     * so callers that do not keep a reference to each outcome never hold the whole test suite in memory.
+     * Like the iterator, this stream can only be consumed once.
+     */
+    public Stream<TestOutcome> parallelStream() {
+        Spliterator<Path> outcomeFiles = Spliterators.spliteratorUnknownSize(directoryStreamIterator, Spliterator.NONNULL);
+        return StreamSupport.stream(outcomeFiles, true)
+                .map(loader::loadReportFrom)
+                .filter(Optional::isPresent)
+                .map(outcome -> augmented(outcome.get()));
+    }
+
+    private TestOutcome augmented(TestOutcome testOutcome) {
+        augmenters.forEach(augmenter -> augmenter.augment(testOutcome));
+        return testOutcome;
     }
 
 
@@ -59,7 +93,7 @@ public class TestOutcomeStream implements Iterable<TestOutcome>, Closeable {
                 while (directoryStream.hasNext()) {
                     java.util.Optional<TestOutcome> nextOutcomeFromStream = loader.loadReportFrom(directoryStream.next());
                     if (nextOutcomeFromStream.isPresent()) {
-                        return nextOutcomeFromStream;
+                        return nextOutcomeFromStream.map(TestOutcomeStream.this::augmented);
                     }
                 }
                 return java.util.Optional.empty();
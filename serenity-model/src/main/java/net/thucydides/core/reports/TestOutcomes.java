@@ -44,7 +44,14 @@ public class TestOutcomes {
     private final Optional<TestOutcomes> rootOutcomes;
     private final double estimatedAverageStepCount;
     private final EnvironmentVariables environmentVariables;
-    private final RequirementsService requirementsService;
+    private RequirementsService requirementsService;
+
+    /**
+     * The index shared by this set of outcomes and the filtered views derived from it,
+     * and the positions of the outcomes of this set in the index.
+     */
+    private TestOutcomeIndex index;
+    private BitSet indexedOutcomes;
 
     /**
      * A label indicating where these tests come from (e.g. the tag, the result status, etc).
@@ -78,7 +85,6 @@ public class TestOutcomes {
         this.resultFilter = resultFilter;
         this.rootOutcomes = Optional.ofNullable(rootOutcomes);
         this.environmentVariables = environmentVariables;
-        this.requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
     }
 
     protected TestOutcomes(Collection<? extends TestOutcome> outcomes,
@@ -94,7 +100,81 @@ public class TestOutcomes {
         this.resultFilter = null;
         this.rootOutcomes = Optional.ofNullable(rootOutcomes);
         this.environmentVariables = environmentVariables;
-        this.requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
+    }
+
+    /**
+     * Used for filtered views, whose outcomes are already sorted as they come from a sorted set of outcomes.
+     * Views whose outcomes are a subset of an indexed set of outcomes share the same index.
+     */
+    private TestOutcomes(List<? extends TestOutcome> sortedOutcomes,
+                         double estimatedAverageStepCount,
+                         String label,
+                         TestTag testTag,
+                         TestResult resultFilter,
+                         TestOutcomes rootOutcomes,
+                         EnvironmentVariables environmentVariables,
+                         TestOutcomeIndex index,
+                         BitSet indexedOutcomes) {
+        outcomeCount = outcomeCount + sortedOutcomes.size();
+        this.outcomes = Collections.unmodifiableList(sortedOutcomes);
+        this.estimatedAverageStepCount = estimatedAverageStepCount;
+        this.label = label;
+        this.testTag = testTag;
+        this.resultFilter = resultFilter;
+        this.rootOutcomes = Optional.ofNullable(rootOutcomes);
+        this.environmentVariables = environmentVariables;
+        this.index = index;
+        this.indexedOutcomes = indexedOutcomes;
+    }
+
+    private RequirementsService requirementsService() {
+        if (requirementsService == null) {
+            requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
+        }
+        return requirementsService;
+    }
+
+    private synchronized TestOutcomeIndex index() {
+        if (index == null) {
+            index = new TestOutcomeIndex(outcomes);
+            indexedOutcomes = index.allOutcomes();
+        }
+        return index;
+    }
+
+    /**
+     * The positions of the outcomes of this set, in the index, that are in the candidate outcomes and match the filter.
+     */
+    private BitSet indexedOutcomesMatching(BitSet candidates, Predicate<TestOutcome> filter) {
+        TestOutcomeIndex outcomeIndex = index();
+        BitSet matchingOutcomes = (BitSet) candidates.clone();
+        matchingOutcomes.and(indexedOutcomes);
+        for (int position = matchingOutcomes.nextSetBit(0); position >= 0; position = matchingOutcomes.nextSetBit(position + 1)) {
+            if (!filter.test(outcomeIndex.get(position))) {
+                matchingOutcomes.clear(position);
+            }
+        }
+        return matchingOutcomes;
+    }
+
+    private BitSet indexedOutcomesIn(BitSet matchingOutcomes) {
+        index();
+        BitSet outcomesInThisSet = (BitSet) matchingOutcomes.clone();
+        outcomesInThisSet.and(indexedOutcomes);
+        return outcomesInThisSet;
+    }
+
+    private TestOutcomes indexedView(BitSet matchingOutcomes) {
+        TestOutcomeIndex outcomeIndex = index();
+        return new TestOutcomes(outcomeIndex.outcomesIn(matchingOutcomes),
+                                estimatedAverageStepCount, "", null, null, null, environmentVariables,
+                                outcomeIndex, matchingOutcomes);
+    }
+
+    private TestOutcomes unindexedView(List<? extends TestOutcome> sortedOutcomes) {
+        return new TestOutcomes(sortedOutcomes,
+                                estimatedAverageStepCount, "", null, null, null, environmentVariables,
+                                null, null);
     }
 
     private List<TestOutcome> sorted(Collection<? extends TestOutcome> outcomes) {
@@ -132,11 +212,13 @@ public class TestOutcomes {
     }
 
     public TestOutcomes withLabel(String label) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, null, null, null,
+                                environmentVariables, index, indexedOutcomes);
     }
 
     public TestOutcomes withResultFilter(TestResult testResult) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, testResult);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, null, testResult, null,
+                                environmentVariables, index, indexedOutcomes);
     }
 
     public TestOutcomes filteredByEnvironmentTags() {
@@ -156,11 +238,11 @@ public class TestOutcomes {
         return havingResult(TestResult.valueOf(result.toUpperCase()));
     }
 
-    private List<TestOutcome> outcomesFilteredByResult(TestResult... results) {
+    private TestOutcomes outcomesFilteredByResult(TestResult... results) {
         if (onlyPassing(results)) {
-            return outcomesExclusivelyWithResults(results);
+            return indexedView(indexedOutcomesIn(index().withOverallResultIn(results)));
         } else {
-            return outcomesWithAtLeastOneResultOf(results);
+            return indexedView(indexedOutcomesIn(index().withScenarioResultIn(results)));
         }
     }
 
@@ -168,35 +250,9 @@ public class TestOutcomes {
         return stream(results).allMatch( result -> result == TestResult.SUCCESS);
     }
 
-    private List<TestOutcome> outcomesExclusivelyWithResults(TestResult... results) {
-        List<TestResult> eligableResults = NewList.of(results);
-
-        return outcomes.stream()
-                .filter(outcome -> eligableResults.contains(outcome.getResult()))
-                .collect(Collectors.toList());
-    }
-
-    private List<TestOutcome> outcomesWithAtLeastOneResultOf(TestResult... results) {
-        return outcomes.stream()
-                .filter(outcome -> outcomeHasResultFrom(outcome, results))
-                .collect(Collectors.toList());
-    }
-
-    private boolean outcomeHasResultFrom(TestOutcome outcome, TestResult... results) {
-
-        List<TestResult> eligableResults = NewList.of(results);
-
-        if (!outcome.isDataDriven()) {
-            return eligableResults.contains(outcome.getResult());
-        }
-        return outcome.getDataTable().getRows().stream().anyMatch(
-                row -> eligableResults.contains(row.getResult())
-        );
-    }
-
     public TestOutcomes havingResult(TestResult result) {
 
-        return TestOutcomes.of(outcomesFilteredByResult(result))
+        return outcomesFilteredByResult(result)
                 .withLabel(labelForTestsWithStatus(result.name()))
                 .withResultFilter(result)
                 .withRootOutcomes(getRootOutcomes());
@@ -265,7 +321,7 @@ public class TestOutcomes {
     }
 
     public List<String> getRequirementTagTypes() {
-       return requirementsService.getRequirementTypes()
+       return requirementsService().getRequirementTypes()
                .stream()
                .filter(tagType -> getTagTypes().contains(tagType))
                .collect(Collectors.toList());
@@ -385,25 +441,54 @@ public class TestOutcomes {
 
     public TestOutcomes forRequirement(Requirement requirement) {
 
-        Set<TestOutcome> testOutcomesForThisRequirement = new HashSet<>();
+        List<TestOutcomes> outcomesForEachChildRequirement = new ArrayList<>();
 
         for(Requirement childRequirement : RequirementsTree.forRequirement(requirement).asFlattenedList()) {
-            testOutcomesForThisRequirement.addAll(
-                    withTag(childRequirement.asTag()).getOutcomes()
-            );
+            outcomesForEachChildRequirement.add(withTag(childRequirement.asTag()));
             if (childRequirement.getCardNumber() != null) {
-                testOutcomesForThisRequirement.addAll(
-                        withCardNumber(childRequirement.getCardNumber()).getOutcomes()
-                );
+                outcomesForEachChildRequirement.add(withCardNumber(childRequirement.getCardNumber()));
             }
         }
 
-        return TestOutcomes.of(testOutcomesForThisRequirement)
+        return combined(outcomesForEachChildRequirement)
+                .withLabel(requirement.getDisplayName())
+                .withTestTag(requirement.asTag())
+                .withRootOutcomes(getRootOutcomes());
+    }
+
+    /**
+     * The outcomes for a requirement, given the outcomes already found (using this method or forRequirement())
+     * for each of its child requirements, so that the outcomes for every requirement in a tree can be found
+     * without scanning each subtree again.
+     */
+    public TestOutcomes forRequirement(Requirement requirement, Collection<TestOutcomes> outcomesForChildRequirements) {
+
+        List<TestOutcomes> outcomesForThisRequirement = new ArrayList<>(outcomesForChildRequirements);
+        outcomesForThisRequirement.add(withTag(requirement.asTag()));
+        if (requirement.getCardNumber() != null) {
+            outcomesForThisRequirement.add(withCardNumber(requirement.getCardNumber()));
+        }
+
+        return combined(outcomesForThisRequirement)
                 .withLabel(requirement.getDisplayName())
                 .withTestTag(requirement.asTag())
                 .withRootOutcomes(getRootOutcomes());
     }
 
+    /**
+     * Combine several filtered views of these outcomes into a single set of outcomes, without duplicates.
+     */
+    private TestOutcomes combined(List<TestOutcomes> filteredViews) {
+        if (filteredViews.stream().allMatch(view -> view.index == index())) {
+            BitSet combinedOutcomes = new BitSet(index.size());
+            filteredViews.forEach(view -> combinedOutcomes.or(view.indexedOutcomes));
+            return indexedView(combinedOutcomes);
+        }
+        Set<TestOutcome> combinedOutcomes = new HashSet<>();
+        filteredViews.forEach(view -> combinedOutcomes.addAll(view.getOutcomes()));
+        return TestOutcomes.of(combinedOutcomes);
+    }
+
     public TestTag getTestTag() { return testTag; }
 
     public boolean containsTag(TestTag testTag) {
@@ -425,24 +510,7 @@ public class TestOutcomes {
     }
 
     public TestOutcomes ofType(TestType testType) {
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> outcome.typeCompatibleWith(testType))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes);
-    }
-
-    private boolean failedWith(TestOutcome outcome, String testFailureErrorType) {
-        if (!outcome.isDataDriven()) {
-            return (outcome.getTestFailureErrorType().equals(testFailureErrorType) && (outcome.getResult().isAtLeast(TestResult.FAILURE)));
-        }
-        return outcome.getTestSteps().stream()
-                .anyMatch(
-                        step -> step.getResult().isAtLeast(TestResult.FAILURE)
-                                && step.getException() != null
-                                && step.getException().getErrorType().equals(testFailureErrorType)
-                );
+        return indexedView(indexedOutcomesMatching(index().allOutcomes(), outcome -> outcome.typeCompatibleWith(testType)));
     }
 
     public Integer scenarioCountWithResult(TestResult result) {
@@ -484,36 +552,35 @@ public class TestOutcomes {
     }
 
     public TestOutcomes withErrorType(String testFailureErrorType) {
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> failedWith(outcome, testFailureErrorType))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes).withLabel("");
+        return indexedView(indexedOutcomesIn(index().withErrorType(testFailureErrorType))).withLabel("");
     }
 
     public TestOutcomes withResult(TestResult result) {
-
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> countScenariosWithResult(result, outcome) > 0)
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes);
+        return indexedView(indexedOutcomesMatching(index().allOutcomes(), outcome -> countScenariosWithResult(result, outcome) > 0));
     }
 
     public TestOutcomes withRequirementsTags() {
         for (TestOutcome outcome : outcomes) {
             List<TestTag> outcomeTags = new ArrayList<>(outcome.getTags());
-            List<Requirement> parentRequirements = requirementsService.getAncestorRequirementsFor(outcome);
+            List<Requirement> parentRequirements = requirementsService().getAncestorRequirementsFor(outcome);
             for(Requirement requirement : parentRequirements) {
                 outcomeTags.add(requirement.asTag());
             }
             outcome.addTags(outcomeTags);
         }
+        reindex();
         return this;
     }
 
+    /**
+     * Bring the shared index up to date after the tags of these outcomes have been changed in place.
+     */
+    private synchronized void reindex() {
+        if (index != null) {
+            index.reindex();
+        }
+    }
+
     public Optional<? extends TestOutcome> testOutcomeWithName(String name) {
         return outcomes.stream().filter(
                 outcome -> outcome.getName().equalsIgnoreCase(name)
@@ -553,25 +620,26 @@ public class TestOutcomes {
      */
     public TestOutcomes withTagType(String tagType) {
 
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithType(tagType))
-                .collect(Collectors.toList());
+        BitSet testOutcomesWithTags = indexedOutcomesMatching(index().candidatesWithTagType(tagType),
+                                                              outcome -> outcome.hasTagWithType(tagType));
 
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(tagType).withRootOutcomes(getRootOutcomes());
+        return indexedView(testOutcomesWithTags).withLabel(tagType).withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withTagTypes(List<String> tagTypes) {
 
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithTypes(tagTypes))
-                .collect(Collectors.toList());
+        BitSet candidates = new BitSet();
+        tagTypes.forEach(tagType -> candidates.or(index().candidatesWithTagType(tagType)));
+
+        BitSet testOutcomesWithTags = indexedOutcomesMatching(candidates, outcome -> outcome.hasTagWithTypes(tagTypes));
 
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(Joiner.on(",").join(tagTypes))
+        return indexedView(testOutcomesWithTags).withLabel(Joiner.on(",").join(tagTypes))
                            .withRootOutcomes(getRootOutcomes());
     }
 
     private TestOutcomes withRootOutcomes(TestOutcomes rootOutcomes) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, this.label, this.testTag, this.resultFilter, rootOutcomes, environmentVariables);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, this.label, this.testTag, this.resultFilter, rootOutcomes,
+                                environmentVariables, index, indexedOutcomes);
     }
 
     /**
@@ -582,46 +650,65 @@ public class TestOutcomes {
      */
     public TestOutcomes withTag(String tagName) {
 
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithName(tagName))
-                .collect(Collectors.toList());
+        BitSet testOutcomesWithTags = indexedOutcomesMatching(index().candidatesWithTagName(tagName),
+                                                              outcome -> outcome.hasTagWithName(tagName));
 
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(tagName).withRootOutcomes(getRootOutcomes());
+        return indexedView(testOutcomesWithTags).withLabel(tagName).withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withTag(TestTag tag) {
-        List<? extends TestOutcome> outcomesWithMatchingTag = matchingOutcomes(outcomes, tag);
-        return TestOutcomes.of(outcomesWithMatchingTag)
+        return matchingOutcomes(tag)
                            .withLabel(tag.getShortName())
                            .withTestTag(tag)
                            .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withCardNumber(String issueCardNumber) {
-        List<? extends TestOutcome> outcomesWithMatchingTag
-                = matchingOutcomes(outcomes, TestTag.withName(issueCardNumber).andType("issue"));
-        return TestOutcomes.of(outcomesWithMatchingTag)
+        return matchingOutcomes(TestTag.withName(issueCardNumber).andType("issue"))
                 .withTestTag(TestTag.withName(issueCardNumber).andType("issue"))
                 .withRootOutcomes(getRootOutcomes());
     }
     private TestOutcomes withTestTag(TestTag tag) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, tag);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, tag, null, null,
+                                environmentVariables, index, indexedOutcomes);
     }
 
     public TestOutcomes withTags(Collection<TestTag> tags) {
-        Set<TestOutcome> filteredOutcomes = new HashSet<>();
+        List<TestOutcomes> outcomesForEachTag = new ArrayList<>();
         for (TestTag tag : tags) {
-            filteredOutcomes.addAll(matchingOutcomes(outcomes, tag));
+            outcomesForEachTag.add(matchingOutcomes(tag));
         }
-        return TestOutcomes.of(filteredOutcomes);
+        return combined(outcomesForEachTag);
     }
 
-    private List<? extends TestOutcome> matchingOutcomes(List<? extends TestOutcome> outcomes, TestTag tag) {
+    /**
+     * An upper bound on the number of outcomes that withTag(tag) would return, read from the tag index
+     * without checking each outcome against the tag.
+     */
+    public int estimatedCountWithTag(TestTag tag) {
+        BitSet candidates = isAnIssue(tag) ? index().withIssue(tag.getName()) : index().candidatesWithTag(tag);
+        return indexedOutcomesIn(candidates).cardinality();
+    }
 
-        return outcomes.stream()
-                .filter(outcome -> hasMatchingTag(outcome, tag))
+    /**
+     * The outcomes with a matching tag. Data-driven outcomes only keep the rows matching the tag,
+     * in which case the filtered outcomes are copies and are no longer part of the index.
+     */
+    private TestOutcomes matchingOutcomes(TestTag tag) {
+        BitSet candidates = isAnIssue(tag) ? index().withIssue(tag.getName()) : index().candidatesWithTag(tag);
+        BitSet outcomesWithMatchingTag = indexedOutcomesMatching(candidates, outcome -> hasMatchingTag(outcome, tag));
+
+        List<TestOutcome> matchingOutcomes = index().outcomesIn(outcomesWithMatchingTag);
+        List<TestOutcome> filteredOutcomes = matchingOutcomes.stream()
                 .map(outcome -> outcome.withDataRowsfilteredbyTag(tag))
                 .collect(Collectors.toList());
+
+        for (int i = 0; i < matchingOutcomes.size(); i++) {
+            if (filteredOutcomes.get(i) != matchingOutcomes.get(i)) {
+                return unindexedView(filteredOutcomes);
+            }
+        }
+        return indexedView(outcomesWithMatchingTag);
     }
 
     private List<? extends TestOutcome> matchingOutcomesWithTagsFrom(List<? extends TestOutcome> outcomes, Collection<TestTag> tags) {
@@ -653,7 +740,7 @@ public class TestOutcomes {
     }
 
     public TestOutcomes getUnsuccessfulTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.ERROR, TestResult.FAILURE,  TestResult.COMPROMISED))
+        return outcomesFilteredByResult(TestResult.ERROR, TestResult.FAILURE,  TestResult.COMPROMISED)
                 .withLabel(labelForTestsWithStatus("unsuccessful tests"))
                 .withResultFilter(TestResult.UNSUCCESSFUL)
                 .withRootOutcomes(getRootOutcomes());
@@ -665,21 +752,21 @@ public class TestOutcomes {
      * @return A new set of test outcomes containing only the failing tests
      */
     public TestOutcomes getFailingTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.FAILURE))
+        return outcomesFilteredByResult(TestResult.FAILURE)
                 .withLabel(labelForTestsWithStatus("failing tests"))
                 .withResultFilter(TestResult.FAILURE)
                 .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes getErrorTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.ERROR))
+        return outcomesFilteredByResult(TestResult.ERROR)
                 .withLabel(labelForTestsWithStatus("tests with errors"))
                 .withResultFilter(TestResult.ERROR)
                 .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes getCompromisedTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.COMPROMISED))
+        return outcomesFilteredByResult(TestResult.COMPROMISED)
                 .withLabel(labelForTestsWithStatus("compromised tests"))
                 .withResultFilter(TestResult.COMPROMISED)
                 .withRootOutcomes(getRootOutcomes());
@@ -699,7 +786,7 @@ public class TestOutcomes {
      * @return A new set of test outcomes containing only the successful tests
      */
     public TestOutcomes getPassingTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.SUCCESS))
+        return outcomesFilteredByResult(TestResult.SUCCESS)
                 .withLabel(labelForTestsWithStatus("passing tests"))
                 .withResultFilter(TestResult.SUCCESS)
                 .withRootOutcomes(getRootOutcomes());
@@ -712,26 +799,13 @@ public class TestOutcomes {
      */
     public TestOutcomes getPendingTests() {
 
-        List<TestOutcome> pendingOutcomes = outcomesWithResults(outcomes, TestResult.PENDING);
-        return TestOutcomes.of(pendingOutcomes)
+        return indexedView(indexedOutcomesIn(index().withOverallResultIn(TestResult.PENDING)))
                 .withLabel(labelForTestsWithStatus("pending tests"))
                 .withResultFilter(TestResult.PENDING)
                 .withRootOutcomes(getRootOutcomes());
 
     }
 
-    private List<TestOutcome> outcomesWithResults(List<? extends TestOutcome> outcomes,
-                                                  TestResult... possibleResults) {
-        List<TestOutcome> validOutcomes = new ArrayList<>();
-        List<TestResult> possibleResultsList = Arrays.asList(possibleResults);
-        for (TestOutcome outcome : outcomes) {
-            if (possibleResultsList.contains(outcome.getResult())) {
-                validOutcomes.add(outcome);
-            }
-        }
-        return validOutcomes;
-    }
-
     /**
      * @return The list of TestOutcomes contained in this test outcome set.
      */
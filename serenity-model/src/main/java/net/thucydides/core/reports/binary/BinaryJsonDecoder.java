@@ -0,0 +1,134 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.thucydides.core.reports.binary.BinaryJsonWriter.*;
+
+/**
+ * Reads the tokens written by a BinaryJsonWriter back into a JSON tree, which Gson can then map onto the usual classes.
+ * Strings that were written more than once are read into a single shared String instance.
+ */
+class BinaryJsonDecoder {
+
+    private final DataInputStream in;
+    private final List<String> stringTable = new ArrayList<>();
+
+    private BinaryJsonDecoder(InputStream inputStream) {
+        this.in = new DataInputStream(inputStream);
+    }
+
+    static JsonElement decode(InputStream inputStream) throws IOException {
+        BinaryJsonDecoder decoder = new BinaryJsonDecoder(inputStream);
+        decoder.checkHeader();
+        return decoder.readValue(decoder.readToken());
+    }
+
+    private void checkHeader() throws IOException {
+        byte[] header = new byte[HEADER.length];
+        in.readFully(header);
+        if (!Arrays.equals(header, HEADER)) {
+            throw new IOException("Not a binary test outcome (or written by an incompatible version)");
+        }
+    }
+
+    private JsonElement readValue(int token) throws IOException {
+        switch (token) {
+            case BEGIN_OBJECT:
+                return readObject();
+            case BEGIN_ARRAY:
+                return readArray();
+            case STRING:
+                return new JsonPrimitive(readString());
+            case LONG:
+                long zigzag = readVarLong();
+                return new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+            case NUMBER:
+                return new JsonPrimitive(new LazilyParsedNumber(readInlineString()));
+            case TRUE:
+                return new JsonPrimitive(true);
+            case FALSE:
+                return new JsonPrimitive(false);
+            case NULL:
+                return JsonNull.INSTANCE;
+            default:
+                throw new IOException("Unexpected token in binary test outcome: " + token);
+        }
+    }
+
+    private JsonObject readObject() throws IOException {
+        JsonObject object = new JsonObject();
+        for (int token = readToken(); token != END_OBJECT; token = readToken()) {
+            if (token != NAME) {
+                throw new IOException("Expected a field name in binary test outcome but found token " + token);
+            }
+            String name = readString();
+            object.add(name, readValue(readToken()));
+        }
+        return object;
+    }
+
+    private JsonArray readArray() throws IOException {
+        JsonArray array = new JsonArray();
+        for (int token = readToken(); token != END_ARRAY; token = readToken()) {
+            array.add(readValue(token));
+        }
+        return array;
+    }
+
+    private int readToken() throws IOException {
+        int token = in.read();
+        if (token < 0) {
+            throw new EOFException("Unexpected end of binary test outcome");
+        }
+        return token;
+    }
+
+    private String readString() throws IOException {
+        long position = readVarLong();
+        if (position == 0) {
+            String value = readInlineString();
+            stringTable.add(value);
+            return value;
+        }
+        if (position > stringTable.size()) {
+            throw new IOException("Unknown string reference in binary test outcome: " + position);
+        }
+        return stringTable.get((int) position - 1);
+    }
+
+    private String readInlineString() throws IOException {
+        long length = readVarLong();
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("String too long in binary test outcome: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int nextByte = readToken();
+            value |= (long) (nextByte & 0x7F) << shift;
+            if ((nextByte & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number in binary test outcome");
+    }
+}
@@ -0,0 +1,216 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Gson JsonWriter that writes the JSON tokens in a compact binary form rather than as text.
+ * Field names and string values are written once, the first time they appear, and referred to by their position
+ * in the string table from then on, so repeated step names, tags and paths only take a few bytes each.
+ * Strings and numbers are length-prefixed, and integers are written as variable-length values.
+ * The tokens are read back by the BinaryJsonDecoder.
+ */
+public class BinaryJsonWriter extends JsonWriter {
+
+    static final byte[] HEADER = {'S', 'B', 'O', 1};
+
+    static final int BEGIN_OBJECT = 1;
+    static final int END_OBJECT = 2;
+    static final int BEGIN_ARRAY = 3;
+    static final int END_ARRAY = 4;
+    static final int NAME = 5;
+    static final int STRING = 6;
+    static final int LONG = 7;
+    static final int NUMBER = 8;
+    static final int TRUE = 9;
+    static final int FALSE = 10;
+    static final int NULL = 11;
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringTable = new HashMap<>();
+    private String pendingName;
+
+    public BinaryJsonWriter(OutputStream outputStream) throws IOException {
+        super(UNWRITABLE_WRITER);
+        this.out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writeToken(BEGIN_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        writeToken(END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writeToken(BEGIN_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        writeToken(END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        if (pendingName != null) {
+            throw new IllegalStateException("Expected a value after the name " + pendingName);
+        }
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeToken(STRING);
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) {
+        throw new UnsupportedOperationException("Raw JSON values can not be written to a binary outcome");
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (pendingName != null && !getSerializeNulls()) {
+            pendingName = null;
+            return this;
+        }
+        writeToken(NULL);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writeToken(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return (value == null) ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeToken(NUMBER);
+        writeInlineString(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writeToken(LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        String number = value.toString();
+        if (!isLenient() && (number.equals("-Infinity") || number.equals("Infinity") || number.equals("NaN"))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeToken(NUMBER);
+        writeInlineString(number);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeToken(int token) throws IOException {
+        if (pendingName != null) {
+            out.write(NAME);
+            writeString(pendingName);
+            pendingName = null;
+        }
+        out.write(token);
+    }
+
+    /**
+     * A string that has been written before is written as its position in the string table plus one;
+     * a new string is written as a zero followed by the string itself.
+     */
+    private void writeString(String value) throws IOException {
+        Integer position = stringTable.get(value);
+        if (position != null) {
+            writeVarLong(position + 1);
+        } else {
+            stringTable.put(value, stringTable.size());
+            writeVarLong(0);
+            writeInlineString(value);
+        }
+    }
+
+    private void writeInlineString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
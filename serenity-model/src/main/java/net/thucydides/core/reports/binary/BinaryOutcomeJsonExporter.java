@@ -0,0 +1,52 @@
+package net.thucydides.core.reports.binary;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes JSON reports for the binary test outcomes in a directory, for tools that only read the JSON format.
+ * Can also be run from the command line, with the source directory and (optionally) the target directory as arguments.
+ */
+public class BinaryOutcomeJsonExporter {
+
+    private final BinaryTestOutcomeReporter binaryReporter;
+
+    public BinaryOutcomeJsonExporter() {
+        this(new BinaryTestOutcomeReporter());
+    }
+
+    BinaryOutcomeJsonExporter(BinaryTestOutcomeReporter binaryReporter) {
+        this.binaryReporter = binaryReporter;
+    }
+
+    /**
+     * @return the JSON reports that were written
+     */
+    public List<File> export(File sourceDirectory, File targetDirectory) throws IOException {
+        JSONTestOutcomeReporter jsonReporter = new JSONTestOutcomeReporter();
+        targetDirectory.mkdirs();
+        jsonReporter.setOutputDirectory(targetDirectory);
+
+        List<File> jsonReports = new ArrayList<>();
+        for (TestOutcome testOutcome : binaryReporter.loadReportsFrom(sourceDirectory)) {
+            jsonReports.add(jsonReporter.generateReportFor(testOutcome));
+        }
+        return jsonReports;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BinaryOutcomeJsonExporter <source directory> [<target directory>]");
+            System.exit(1);
+        }
+        File sourceDirectory = new File(args[0]);
+        File targetDirectory = (args.length > 1) ? new File(args[1]) : sourceDirectory;
+        List<File> jsonReports = new BinaryOutcomeJsonExporter().export(sourceDirectory, targetDirectory);
+        System.out.println("Exported " + jsonReports.size() + " test outcomes to " + targetDirectory);
+    }
+}
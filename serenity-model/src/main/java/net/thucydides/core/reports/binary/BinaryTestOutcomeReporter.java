@@ -0,0 +1,132 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.common.base.Preconditions;
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestLoader;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.io.SafelyMoveFiles;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Stores test outcomes in a compact binary form that is faster to load than JSON.
+ * The binary files hold the same fields as the JSON reports (see BinaryJsonWriter), and can be
+ * converted back into JSON reports using the BinaryOutcomeJsonExporter.
+ * Use this format by adding "binary" to the serenity.outcome.formats property.
+ */
+public class BinaryTestOutcomeReporter implements AcceptanceTestReporter, AcceptanceTestLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryTestOutcomeReporter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private File outputDirectory;
+
+    private transient String qualifier;
+
+    private final GsonJSONConverter converter;
+
+    public BinaryTestOutcomeReporter() {
+        this(Injectors.getInjector().getInstance(GsonJSONConverter.class));
+    }
+
+    BinaryTestOutcomeReporter(GsonJSONConverter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public String getName() {
+        return "binary";
+    }
+
+    @Override
+    public File generateReportFor(TestOutcome testOutcome) throws IOException {
+        TestOutcome storedTestOutcome = testOutcome.withQualifier(qualifier);
+        Preconditions.checkNotNull(outputDirectory);
+        String reportFilename = storedTestOutcome.getReportName(ReportType.BINARY);
+        File temporary = new File(outputDirectory, reportFilename.concat(UUID.randomUUID().toString()));
+        File report = new File(outputDirectory, reportFilename);
+
+        LOGGER.debug("Generating binary report for {} to file {}", testOutcome.getTitle(), report.getAbsolutePath());
+
+        try (BinaryJsonWriter writer = new BinaryJsonWriter(new BufferedOutputStream(new FileOutputStream(temporary), BUFFER_SIZE))) {
+            converter.toJson(storedTestOutcome, writer);
+        }
+
+        SafelyMoveFiles.withMaxRetriesOf(3).from(temporary.toPath()).to(report.toPath());
+
+        return report;
+    }
+
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    @Override
+    public void setOutputDirectory(final File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    @Override
+    public void setQualifier(final String qualifier) {
+        this.qualifier = qualifier;
+    }
+
+    @Override
+    public void setResourceDirectory(String resourceDirectoryPath) {
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final Path reportFile) {
+        return loadReportFrom(reportFile.toFile());
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final File reportFile) {
+        if (!isABinaryOutcome(reportFile.getName())) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(reportFile), BUFFER_SIZE)) {
+            return converter.fromJsonTree(BinaryJsonDecoder.decode(in));
+        } catch (Throwable e) {
+            LOGGER.warn("This file was not a valid binary Serenity test report: " + reportFile.getName()
+                    + System.lineSeparator() + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<TestOutcome> loadReportsFrom(final Path outputDirectory) {
+        return loadReportsFrom(outputDirectory.toFile());
+    }
+
+    @Override
+    public List<TestOutcome> loadReportsFrom(File outputDirectory) {
+        File[] reportFiles = outputDirectory.listFiles((directory, filename) -> isABinaryOutcome(filename));
+        List<TestOutcome> testOutcomes = new ArrayList<>();
+        if (reportFiles != null) {
+            for (File reportFile : reportFiles) {
+                loadReportFrom(reportFile).ifPresent(testOutcomes::add);
+            }
+        }
+        return testOutcomes;
+    }
+
+    private static boolean isABinaryOutcome(String filename) {
+        return filename.toLowerCase(Locale.getDefault()).endsWith(OutcomeFormat.BINARY.getExtension());
+    }
+
+    @Override
+    public Optional<OutcomeFormat> getFormat() {
+        return Optional.of(OutcomeFormat.BINARY);
+    }
+}
@@ -32,6 +32,14 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
 
     private final String encoding;
 
+    /**
+     * Each report writer thread serialises its reports into the same buffer, so that a report is written
+     * to disk in a single call without allocating a new buffer for every test outcome.
+     */
+    private static final ThreadLocal<ByteArrayOutputStream> REPORT_BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(64 * 1024));
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 4 * 1024 * 1024;
+
     @Override
     public String getName() {
         return "json";
@@ -48,17 +56,24 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
     public File generateReportFor(TestOutcome testOutcome) throws IOException {
         TestOutcome storedTestOutcome = testOutcome.withQualifier(qualifier);
         Preconditions.checkNotNull(outputDirectory);
-        String reportFilename = reportFor(storedTestOutcome);
+        String reportFilename = storedTestOutcome.getReportName(ReportType.JSON);
         String unique = UUID.randomUUID().toString();
         File temporary = new File(getOutputDirectory(), reportFilename.concat(unique));
         File report = new File(getOutputDirectory(), reportFilename);
-        report.createNewFile();
 
         LOGGER.debug("Generating JSON report for {} to file {} (using temp file {})", testOutcome.getTitle(), report.getAbsolutePath(), temporary.getAbsolutePath());
 
-        try(OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(temporary))){
-            jsonConverter.toJson(storedTestOutcome, outputStream);
-            outputStream.flush();
+        ByteArrayOutputStream buffer = REPORT_BUFFER.get();
+        buffer.reset();
+        try {
+            jsonConverter.toJson(storedTestOutcome, buffer);
+            try (OutputStream outputStream = new FileOutputStream(temporary)) {
+                buffer.writeTo(outputStream);
+            }
+        } finally {
+            if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+                REPORT_BUFFER.remove();
+            }
         }
 
         SafelyMoveFiles.withMaxRetriesOf(3).from(temporary.toPath()).to(report.toPath());
@@ -70,10 +85,6 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         return outputDirectory;
     }
 
-    private String reportFor(final TestOutcome testOutcome) {
-        return testOutcome.withQualifier(qualifier).getReportName(ReportType.JSON);
-    }
-
     @Override
     public void setOutputDirectory(final File outputDirectory) {
         this.outputDirectory = outputDirectory;
@@ -2,6 +2,9 @@ package net.thucydides.core.reports.json.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
 import com.google.inject.Inject;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.model.TestOutcome;
@@ -15,7 +18,6 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -41,7 +43,7 @@ public class GsonJSONConverter implements JSONConverter {
         GsonBuilder gsonBuilder = new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
 //                .registerTypeAdapterFactory(GuavaOptionalTypeAdapter.FACTORY)
-                .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
+                .registerTypeAdapterFactory(StreamingCollectionAdapter.FACTORY)
                 .registerTypeAdapter(Flag.class, new InterfaceAdapter<Flag>())
                 .registerTypeAdapter(File.class, new FileSerializer())
                 .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
@@ -61,7 +63,18 @@ public class GsonJSONConverter implements JSONConverter {
         return isValid(testOutcome) ? java.util.Optional.of(testOutcome) : java.util.Optional.<TestOutcome>empty();
     }
 
+    /**
+     * Read a test outcome from a JSON tree that has already been read, for example from a binary test outcome.
+     */
+    public java.util.Optional<TestOutcome> fromJsonTree(JsonElement json) {
+        TestOutcome testOutcome = gson.fromJson(json, TestOutcome.class);
+        return isValid(testOutcome) ? java.util.Optional.of(testOutcome) : java.util.Optional.<TestOutcome>empty();
+    }
+
     private boolean isValid(TestOutcome testOutcome) {
+        if (testOutcome == null) {
+            return false;
+        }
         boolean isValidJsonForm = isNotEmpty(testOutcome.getId());
         if (isValidJsonForm) {
             checkForRequiredFieldsIn(testOutcome);
@@ -84,6 +97,18 @@ public class GsonJSONConverter implements JSONConverter {
         }
     }
 
+    /**
+     * Write a test outcome as a stream of JSON tokens, for example to a binary test outcome.
+     */
+    public void toJson(TestOutcome testOutcome, JsonWriter writer) throws IOException {
+        testOutcome.calculateDynamicFieldValues();
+        try {
+            gson.toJson(testOutcome, testOutcome.getClass(), writer);
+        } catch (JsonIOException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
     private boolean usePrettyPrinting() {
         return Boolean.parseBoolean(ThucydidesSystemProperty.JSON_PRETTY_PRINTING.from(environmentVariables,"false"));
     }
@@ -0,0 +1,64 @@
+package net.thucydides.core.reports.json.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Writes collections straight to the JSON stream, leaving out empty collections in the same way as the
+ * CollectionAdapter, but without building an intermediate JSON tree for the collection and everything it contains.
+ * Each element is written using the adapter for its runtime type, as the CollectionAdapter does.
+ * Collections are read using the standard Gson collection adapter.
+ */
+public class StreamingCollectionAdapter<C extends Collection<?>> extends TypeAdapter<C> {
+
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!Collection.class.isAssignableFrom(type.getRawType())) {
+                return null;
+            }
+            TypeAdapter<T> defaultAdapter = gson.getDelegateAdapter(this, type);
+            return (TypeAdapter<T>) new StreamingCollectionAdapter<>(gson, (TypeAdapter<Collection<?>>) defaultAdapter);
+        }
+    };
+
+    private final Gson gson;
+    private final TypeAdapter<C> defaultAdapter;
+
+    private StreamingCollectionAdapter(Gson gson, TypeAdapter<C> defaultAdapter) {
+        this.gson = gson;
+        this.defaultAdapter = defaultAdapter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, C collection) throws IOException {
+        if (collection == null || collection.isEmpty()) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (Object element : collection) {
+            if (element == null) {
+                out.nullValue();
+            } else {
+                TypeAdapter<Object> elementAdapter = (TypeAdapter<Object>) gson.getAdapter(element.getClass());
+                elementAdapter.write(out, element);
+            }
+        }
+        out.endArray();
+    }
+
+    @Override
+    public C read(JsonReader in) throws IOException {
+        return defaultAdapter.read(in);
+    }
+}
@@ -17,7 +17,7 @@ public class FreeMarkerTemplateManager implements TemplateManager {
     public static final Version FREEMARKER_VERSION = new Version(2, 3, 23);
     Configuration cfg;
 
-    Map<String, ReportTemplate> templateCache = new ConcurrentHashMap();
+    Map<String, ReportTemplate> templateCache = new ConcurrentHashMap<>();
 
     public FreeMarkerTemplateManager() {
         cfg = new Configuration(FREEMARKER_VERSION);
@@ -25,13 +25,23 @@ public class FreeMarkerTemplateManager implements TemplateManager {
         cfg.setLocale(Locale.UK);
         cfg.setClassForTemplateLoading(getClass(), "/");
         cfg.setObjectWrapper(new DefaultObjectWrapper());
+        cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
     }
 
+    /**
+     * Templates are parsed once and the compiled templates are shared by all the report threads.
+     */
     public ReportTemplate getTemplateFrom(final String template) throws Exception {
-        if (!templateCache.containsKey(template)) {
-            templateCache.put(template, new FreemarkerReportTemplate(cfg, template));
+        ReportTemplate cachedTemplate = templateCache.get(template);
+        if (cachedTemplate != null) {
+            return cachedTemplate;
+        }
+        synchronized (templateCache) {
+            if (!templateCache.containsKey(template)) {
+                templateCache.put(template, new FreemarkerReportTemplate(cfg, template));
+            }
+            return templateCache.get(template);
         }
-        return templateCache.get(template);
     }
 
 }
@@ -27,6 +27,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,6 +68,14 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     //    @Transient
     private volatile List<Requirement> requirements;
 
+    private volatile RequirementsIndex requirementsIndex;
+
+    /**
+     * The requirement tags only depend on the path and parent id of a test outcome,
+     * and many outcomes (e.g. the scenarios of a feature) share the same ones.
+     */
+    private final Map<String, Set<TestTag>> tagsByOutcomePath = new ConcurrentHashMap<>();
+
     public FileSystemRequirementsTagProvider(EnvironmentVariables environmentVariables) {
         this(environmentVariables,
                 RootDirectory.definedIn(environmentVariables).featuresOrStoriesRootDirectory().orElse(Paths.get(DEFAULT_FEATURE_DIRECTORY)).toString());
@@ -180,6 +189,20 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         return requirements;
     }
 
+    /**
+     * An index of the requirements, used to match test outcomes to requirements without scanning the whole hierarchy.
+     */
+    private RequirementsIndex getRequirementsIndex() {
+        if (requirementsIndex == null) {
+            synchronized (requirementsLock) {
+                if (requirementsIndex == null) {
+                    requirementsIndex = new RequirementsIndex(getRequirements(), this::normalisedPath);
+                }
+            }
+        }
+        return requirementsIndex;
+    }
+
     private Set<Requirement> capabilitiesAndStoriesIn(String path) {
         Set<Requirement> allRequirements = new HashSet<>();
         File rootDirectory = new File(path);
@@ -211,6 +234,14 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     public Set<TestTag> getTagsFor(final TestOutcome testOutcome) {
+        if (testOutcome.getPath() == null) {
+            return new HashSet<>();
+        }
+        String outcomePath = testOutcome.getPath() + "#" + testOutcome.getParentId();
+        return new HashSet<>(tagsByOutcomePath.computeIfAbsent(outcomePath, path -> requirementTagsFor(testOutcome)));
+    }
+
+    private Set<TestTag> requirementTagsFor(final TestOutcome testOutcome) {
         //
         // For the FileSystemRequirements tag provider, the test outcome provides a path, which might be:
         //   - a feature file for Cucumber ("add_an_item.feature"),
@@ -246,32 +277,13 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     java.util.Optional<Requirement> requirementWithMatchingFeatureFile(TestOutcome testOutcome) {
         String candidatePath = testOutcome.getPath();
         String parentRequirementId = testOutcome.getParentId();
+        RequirementsIndex index = getRequirementsIndex();
 
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement ->
-                            (requirement.getId() != null && requirement.getId().equals(parentRequirementId)) ||
-                            ((requirement.getFeatureFileName() != null) && (requirement.getFeatureFileName().equalsIgnoreCase(candidatePath))) ||
-                            ((requirement.getPath() != null) && (equivalentPaths(requirement.getPath(), candidatePath)))
-                ).findFirst();
-
-
-//        for (Requirement requirement : AllRequirements.in(getRequirements())) {
-//
-//            if (requirement.getId() != null && requirement.getId().equals(parentRequirementId)) {
-//                return java.util.Optional.of(requirement);
-//            }
-//
-//            if ((requirement.getFeatureFileName() != null) && (requirement.getFeatureFileName().equalsIgnoreCase(candidatePath))) {
-//                return java.util.Optional.of(requirement);
-//            }
-//
-//            if ((requirement.getPath() != null) && (equivalentPaths(requirement.getPath(), candidatePath))) {
-//                return java.util.Optional.of(requirement);
-//            }
-//
-//        }
-//        return java.util.Optional.empty();
+        return index.firstOf(
+                index.requirementWithId(parentRequirementId).orElse(null),
+                index.requirementWithFeatureFileName(candidatePath).orElse(null),
+                index.requirementWithEquivalentPath(candidatePath).orElse(null)
+        );
     }
 
 
@@ -288,16 +300,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> parentRequirementsOf(Requirement matchingRequirement) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirement.getChildren().contains(matchingRequirement))
-                .findFirst();
-//        for (Requirement requirement : AllRequirements.in(getRequirements())) {
-//            if (requirement.getChildren().contains(matchingRequirement)) {
-//                return java.util.Optional.of(requirement);
-//            }
-//        }
-//        return java.util.Optional.empty();
+        return getRequirementsIndex().parentOf(matchingRequirement);
     }
 
     private List<String> stripStorySuffixFrom(List<String> pathElements) {
@@ -315,12 +318,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> getMatchingRequirementFor(TestTag storyOrFeatureTag) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> requirement.asTag().isAsOrMoreSpecificThan(storyOrFeatureTag)
-                )
-                .findFirst();
+        return getRequirementsIndex().requirementAsOrMoreSpecificThan(storyOrFeatureTag);
     }
 
     private java.util.Optional<TestTag> getMatchingRequirementTagsFor(TestTag storyOrFeatureTag) {
@@ -394,40 +392,18 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> requirementWithMatchingPath(TestOutcome testOutcome) {
-
-        Optional<Requirement> matchingRequirement = AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> requirement.getFeatureFileName() != null
-                                && testOutcome.getPath() != null
-                                && Paths.get(testOutcome.getPath()).equals(Paths.get(requirement.getFeatureFileName()))
-                ).findFirst();
-
-        if (matchingRequirement.isPresent()) { return matchingRequirement; }
-
-//        List<Requirement> allRequirements = AllRequirements.in(getRequirements());
-//
-//        for (Requirement requirement : allRequirements) {
-//            if (requirement.getFeatureFileName() != null
-//                    && testOutcome.getPath() != null
-//                    && Paths.get(testOutcome.getPath()).equals(Paths.get(requirement.getFeatureFileName()))) {
-//                return Optional.of(requirement);
-//            }
-//        }
-//
         if (testOutcome.getPath() == null) {
             return Optional.empty();
         }
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirement.getPath() != null)
-                .filter(requirement -> equivalentPaths(requirement.getPath(), testOutcome.getPath()))
-                .findFirst();
+        Optional<Requirement> matchingRequirement = getRequirementsIndex().requirementWithFeatureFilePath(testOutcome.getPath());
+        if (matchingRequirement.isPresent()) {
+            return matchingRequirement;
+        }
+        return getRequirementsIndex().requirementWithEquivalentPath(testOutcome.getPath());
     }
 
-    private boolean equivalentPaths(String pathA, String pathB) {
-        String normalisedPathA = removeFeatureOrStoryPrefixFrom(pathA.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
-        String normalisedPathB = removeFeatureOrStoryPrefixFrom(pathB.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
-        return normalisedPathA.equalsIgnoreCase(normalisedPathB);
+    private String normalisedPath(String path) {
+        return removeFeatureOrStoryPrefixFrom(path.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
     }
 
     private String removeFeatureOrStoryPrefixFrom(String path) {
@@ -449,37 +425,11 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> requirementWithMatchingParentId(TestOutcome testOutcome) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> (requirement.getId() != null
-                                && testOutcome.getParentId() != null
-                                && (requirement.getId().equals(testOutcome.getParentId())))
-                )
-                .findFirst();
-//        for (Requirement requirement : AllRequirements.in(getRequirements())) {
-//            if (requirement.getId() != null && testOutcome.getParentId() != null && (requirement.getId().equals(testOutcome.getParentId()))) {
-//                return Optional.of(requirement);
-//            }
-//        }
-//        return Optional.empty();
+        return getRequirementsIndex().requirementWithId(testOutcome.getParentId());
     }
 
     public java.util.Optional<Requirement> getRequirementFor(TestTag testTag) {
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> (requirement.getName().equalsIgnoreCase(testTag.getName())
-                                && requirement.getType().equalsIgnoreCase(testTag.getType()))
-                )
-                .findFirst();
-//
-//
-//        for (Requirement requirement : AllRequirements.in(getRequirements())) {
-//            if (requirement.getName().equalsIgnoreCase(testTag.getName()) && requirement.getType().equalsIgnoreCase(testTag.getType())) {
-//                return Optional.of(requirement);
-//            }
-//        }
-//        return Optional.empty();
+        return getRequirementsIndex().requirementNamedAfter(testTag);
     }
 
     private java.util.Optional<Requirement> lastRequirementFrom(List<String> storyPathElements) {
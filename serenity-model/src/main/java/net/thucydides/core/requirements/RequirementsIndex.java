@@ -0,0 +1,147 @@
+package net.thucydides.core.requirements;
+
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.requirements.model.Requirement;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An immutable lookup index over a requirements hierarchy, built once so that matching a test outcome
+ * to its requirements does not need to scan every requirement.
+ * Where several requirements match the same key, the index returns the first one in the order
+ * the requirements appear in the hierarchy, which is the one a linear scan would have found.
+ */
+class RequirementsIndex {
+
+    private final Map<Requirement, Integer> positions = new IdentityHashMap<>();
+    private final Map<String, Requirement> byId = new HashMap<>();
+    private final Map<String, Requirement> byFeatureFileName = new HashMap<>();
+    private final Map<Path, Requirement> byFeatureFilePath = new HashMap<>();
+    private final Map<String, Requirement> byNormalisedPath = new HashMap<>();
+    private final Map<String, Requirement> byNameAndType = new HashMap<>();
+    private final Map<TestTag, Requirement> byTag = new HashMap<>();
+    private final Map<String, Requirement> byTagSuffix = new HashMap<>();
+    private final Map<Requirement, Requirement> parents = new HashMap<>();
+
+    private final Function<String, String> pathNormaliser;
+
+    RequirementsIndex(List<Requirement> requirements, Function<String, String> pathNormaliser) {
+        this.pathNormaliser = pathNormaliser;
+
+        List<Requirement> allRequirements = AllRequirements.asStreamFrom(requirements).collect(Collectors.toList());
+        for (Requirement requirement : allRequirements) {
+            positions.putIfAbsent(requirement, positions.size());
+            index(requirement);
+        }
+        for (Requirement requirement : allRequirements) {
+            for (Requirement child : requirement.getChildren()) {
+                parents.putIfAbsent(child, requirement);
+            }
+        }
+    }
+
+    private void index(Requirement requirement) {
+        if (requirement.getId() != null) {
+            byId.putIfAbsent(requirement.getId(), requirement);
+        }
+        if (requirement.getFeatureFileName() != null) {
+            byFeatureFileName.putIfAbsent(caseInsensitive(requirement.getFeatureFileName()), requirement);
+            pathOf(requirement.getFeatureFileName()).ifPresent(path -> byFeatureFilePath.putIfAbsent(path, requirement));
+        }
+        if (requirement.getPath() != null) {
+            byNormalisedPath.putIfAbsent(normalisedPath(requirement.getPath()), requirement);
+        }
+        if (requirement.getName() != null && requirement.getType() != null) {
+            byNameAndType.putIfAbsent(nameAndTypeKey(requirement.getName(), requirement.getType()), requirement);
+
+            TestTag tag = requirement.asTag();
+            byTag.putIfAbsent(tag, requirement);
+            String normalisedName = tag.normalisedName();
+            for (int separator = normalisedName.indexOf('/'); separator >= 0; separator = normalisedName.indexOf('/', separator + 1)) {
+                byTagSuffix.putIfAbsent(tagSuffixKey(normalisedName.substring(separator + 1), tag.getType()), requirement);
+            }
+        }
+    }
+
+    Optional<Requirement> requirementWithId(String id) {
+        return (id == null) ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * The requirement whose feature file name matches this name, ignoring case.
+     */
+    Optional<Requirement> requirementWithFeatureFileName(String featureFileName) {
+        return (featureFileName == null) ? Optional.empty() : Optional.ofNullable(byFeatureFileName.get(caseInsensitive(featureFileName)));
+    }
+
+    /**
+     * The requirement whose feature file name is the same file path as this one.
+     */
+    Optional<Requirement> requirementWithFeatureFilePath(String featureFilePath) {
+        return (featureFilePath == null) ? Optional.empty() : pathOf(featureFilePath).map(byFeatureFilePath::get);
+    }
+
+    /**
+     * The requirement whose path is equivalent to this one, once both are normalised.
+     */
+    Optional<Requirement> requirementWithEquivalentPath(String path) {
+        return (path == null) ? Optional.empty() : Optional.ofNullable(byNormalisedPath.get(normalisedPath(path)));
+    }
+
+    /**
+     * The requirement with the same name and type as this tag, ignoring case.
+     */
+    Optional<Requirement> requirementNamedAfter(TestTag tag) {
+        return Optional.ofNullable(byNameAndType.get(nameAndTypeKey(tag.getName(), tag.getType())));
+    }
+
+    /**
+     * The first requirement whose tag is as or more specific than this tag (see TestTag.isAsOrMoreSpecificThan()).
+     */
+    Optional<Requirement> requirementAsOrMoreSpecificThan(TestTag tag) {
+        return firstOf(byTag.get(tag), byTagSuffix.get(tagSuffixKey(tag.normalisedName(), tag.getType())));
+    }
+
+    Optional<Requirement> parentOf(Requirement requirement) {
+        return Optional.ofNullable(parents.get(requirement));
+    }
+
+    /**
+     * Of several candidate matches, return the one that appears first in the requirements hierarchy.
+     */
+    Optional<Requirement> firstOf(Requirement... candidates) {
+        return Stream.of(candidates)
+                .filter(Objects::nonNull)
+                .min(Comparator.comparing(positions::get));
+    }
+
+    private String normalisedPath(String path) {
+        return caseInsensitive(pathNormaliser.apply(path));
+    }
+
+    private static String caseInsensitive(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String nameAndTypeKey(String name, String type) {
+        return caseInsensitive(type) + ":" + caseInsensitive(name);
+    }
+
+    private static String tagSuffixKey(String normalisedName, String type) {
+        return type + ":" + normalisedName;
+    }
+
+    private static Optional<Path> pathOf(String path) {
+        try {
+            return Optional.of(Paths.get(path));
+        } catch (InvalidPathException notAValidPath) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.thucydides.core.requirements.reports;
+
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.requirements.model.Requirement;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The test outcomes for each requirement in a requirements tree, worked out once for a given set of test outcomes.
+ * The outcomes for a requirement are built bottom-up from the outcomes of its child requirements, and the number
+ * of requirements without tests is rolled up the tree in the same way, so each requirement is only looked up once
+ * however many times it appears in the subtrees of its ancestors.
+ */
+class RequirementOutcomeBuckets {
+
+    private final TestOutcomes testOutcomes;
+
+    private final Map<Requirement, TestOutcomes> outcomesByRequirement = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<Requirement, Long> requirementsWithoutTestsByRequirement = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    RequirementOutcomeBuckets(TestOutcomes testOutcomes) {
+        this.testOutcomes = testOutcomes;
+    }
+
+    /**
+     * The same outcomes as testOutcomes.forRequirement(requirement).
+     */
+    TestOutcomes outcomesFor(Requirement requirement) {
+        TestOutcomes outcomes = outcomesByRequirement.get(requirement);
+        if (outcomes == null) {
+            List<TestOutcomes> outcomesForChildRequirements = requirement.getChildren().stream()
+                    .map(this::outcomesFor)
+                    .collect(Collectors.toList());
+            outcomes = testOutcomes.forRequirement(requirement, outcomesForChildRequirements);
+            outcomesByRequirement.put(requirement, outcomes);
+        }
+        return outcomes;
+    }
+
+    /**
+     * The number of requirements in the tree starting at this requirement (including the requirement itself)
+     * that have no tests.
+     */
+    long requirementsWithoutTestsIn(Requirement requirement) {
+        Long requirementsWithoutTests = requirementsWithoutTestsByRequirement.get(requirement);
+        if (requirementsWithoutTests == null) {
+            long untestedChildRequirements = requirement.getChildren().stream()
+                    .mapToLong(this::requirementsWithoutTestsIn)
+                    .sum();
+            requirementsWithoutTests = untestedChildRequirements + (outcomesFor(requirement).getTotal() == 0 ? 1 : 0);
+            requirementsWithoutTestsByRequirement.put(requirement, requirementsWithoutTests);
+        }
+        return requirementsWithoutTests;
+    }
+}
@@ -42,6 +42,8 @@ public class RequirementsOutcomes {
 
     private final Map<String, Integer> totalCountCache = new ConcurrentHashMap<>();
 
+    private RequirementOutcomeBuckets requirementOutcomeBuckets;
+
     public RequirementsOutcomes(List<Requirement> requirements,
                                 TestOutcomes testOutcomes,
                                 IssueTracking issueTracking,
@@ -57,7 +59,22 @@ public class RequirementsOutcomes {
                                 List<? extends RequirementsTagProvider> requirementsTagProviders,
                                 ReportNameProvider reportNameProvider,
                                 String overview) {
+        this(parentRequirement, requirements, testOutcomes, null, issueTracking, environmentVariables,
+             requirementsTagProviders, reportNameProvider, overview);
+    }
+
+    /**
+     * Used for the outcomes of part of a requirements tree, whose test outcomes are a subset of the test outcomes
+     * in the given buckets, so that the outcomes of each requirement are only worked out once for the whole tree.
+     */
+    private RequirementsOutcomes(Requirement parentRequirement, List<Requirement> requirements, TestOutcomes testOutcomes,
+                                 RequirementOutcomeBuckets requirementOutcomeBuckets,
+                                 IssueTracking issueTracking, EnvironmentVariables environmentVariables,
+                                 List<? extends RequirementsTagProvider> requirementsTagProviders,
+                                 ReportNameProvider reportNameProvider,
+                                 String overview) {
         this.testOutcomes = testOutcomes;
+        this.requirementOutcomeBuckets = requirementOutcomeBuckets;
         this.parentRequirement = Optional.ofNullable(parentRequirement);
         this.environmentVariables = environmentVariables;
         this.issueTracking = issueTracking;
@@ -90,9 +107,9 @@ public class RequirementsOutcomes {
     }
 
     public RequirementOutcome requirementOutcomeFor(Requirement requirement) {
-        TestOutcomes outcomesForRequirement = testOutcomes.forRequirement(requirement);
+        TestOutcomes outcomesForRequirement = requirementOutcomeBuckets().outcomesFor(requirement);
 
-        long requirementsWithoutTests = countRequirementsWithoutTestsIn(requirement);
+        long requirementsWithoutTests = requirementOutcomeBuckets().requirementsWithoutTestsIn(requirement);
         long estimatedUnimplementedTests = requirementsWithoutTests * estimatedTestsPerRequirement();
         return new RequirementOutcome(requirement, outcomesForRequirement, requirementsWithoutTests,
                                       estimatedUnimplementedTests, issueTracking);
@@ -127,10 +144,11 @@ public class RequirementsOutcomes {
                 overview).withoutUnrelatedRequirements();
     }
 
-    private long countRequirementsWithoutTestsIn(Requirement rootRequirement) {
-        return getFlattenedRequirements(rootRequirement).stream()
-                .filter( requirement -> testOutcomes.forRequirement(requirement).getTotal() == 0)
-                .count();
+    private synchronized RequirementOutcomeBuckets requirementOutcomeBuckets() {
+        if (requirementOutcomeBuckets == null) {
+            requirementOutcomeBuckets = new RequirementOutcomeBuckets(testOutcomes);
+        }
+        return requirementOutcomeBuckets;
     }
 
     public int getFlattenedRequirementCount() {
@@ -154,13 +172,6 @@ public class RequirementsOutcomes {
 
     private boolean totalIsCachedFor(String key) { return totalCountCache.containsKey(key); }
 
-    private List<Requirement> getFlattenedRequirements(Requirement rootRequirement) {
-        List<Requirement> flattenedRequirements = new ArrayList<>();
-        flattenedRequirements.add(rootRequirement);
-        flattenedRequirements.addAll(rootRequirement.getNestedChildren());
-        return flattenedRequirements;
-    }
-
     public Optional<Requirement> getParentRequirement() {
         return parentRequirement;
     }
@@ -392,17 +403,18 @@ public class RequirementsOutcomes {
     public List<RequirementOutcome> getFlattenedRequirementOutcomes(List<RequirementOutcome> outcomes) {
         Set<RequirementOutcome> flattenedOutcomes = new HashSet<>();
 
+        RequirementOutcomeBuckets buckets = requirementOutcomeBuckets();
         for (RequirementOutcome requirementOutcome : outcomes) {
             flattenedOutcomes.add(requirementOutcome);
             for (Requirement requirement : requirementOutcome.getRequirement().getChildren()) {
 
-                TestOutcomes testOutcomesForRequirement = requirementOutcome.getTestOutcomes().forRequirement(requirement);
+                TestOutcomes testOutcomesForRequirement = buckets.outcomesFor(requirement);
 
                 flattenedOutcomes.add(new RequirementOutcome(requirement, testOutcomesForRequirement, issueTracking));
 
                 List<Requirement> childRequirements = requirement.getChildren();
                 RequirementsOutcomes childOutcomes =
-                        new RequirementsOutcomes(childRequirements, testOutcomesForRequirement, issueTracking,
+                        new RequirementsOutcomes(null, childRequirements, testOutcomesForRequirement, buckets, issueTracking,
                                 environmentVariables, requirementsTagProviders, reportNameProvider, overview).withoutUnrelatedRequirements();
                 flattenedOutcomes.addAll(getFlattenedRequirementOutcomes(childOutcomes.getRequirementOutcomes()));
             }
@@ -1,6 +1,7 @@
 package net.thucydides.core.util;
 
 import net.serenitybdd.core.collect.*;
+import net.thucydides.core.ConfigurationSnapshot;
 import org.apache.commons.lang3.*;
 
 import java.io.*;
@@ -13,9 +14,25 @@ import java.util.stream.*;
  */
 public class SystemEnvironmentVariables implements EnvironmentVariables {
 
-    private Map<String, String> properties;
+    private volatile Map<String, String> properties;
     private Map<String, String> systemValues;
 
+    /**
+     * Properties are never changed in place: a change replaces the property map, so a snapshot is only current while
+     * it was taken from the map that is still in use.
+     */
+    private volatile SnapshotOfProperties configurationSnapshot;
+
+    private static class SnapshotOfProperties {
+        private final Map<String, String> properties;
+        private final ConfigurationSnapshot snapshot;
+
+        private SnapshotOfProperties(Map<String, String> properties, ConfigurationSnapshot snapshot) {
+            this.properties = properties;
+            this.snapshot = snapshot;
+        }
+    }
+
     public SystemEnvironmentVariables() {
         this(System.getProperties(), System.getenv());
     }
@@ -160,10 +177,27 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     public void setProperties(Map<String, String> properties) {
 
         propertySetLock.lock();
-        this.properties.putAll(properties);
+
+        HashMap<String, String> workingCopy = new HashMap<>(this.properties);
+        workingCopy.putAll(properties);
+        this.properties = NewMap.copyOf(workingCopy);
+
         propertySetLock.unlock();
     }
 
+    /**
+     * The resolved values of the Serenity system properties for the current properties.
+     */
+    public ConfigurationSnapshot getConfigurationSnapshot() {
+        Map<String, String> currentProperties = properties;
+        SnapshotOfProperties snapshot = configurationSnapshot;
+        if (snapshot == null || snapshot.properties != currentProperties) {
+            snapshot = new SnapshotOfProperties(currentProperties, new ConfigurationSnapshot(this));
+            configurationSnapshot = snapshot;
+        }
+        return snapshot.snapshot;
+    }
+
 
     public void clearProperty(String name) {
         propertySetLock.lock();
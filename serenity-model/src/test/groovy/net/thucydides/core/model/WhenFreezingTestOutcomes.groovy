@@ -0,0 +1,48 @@
+package net.thucydides.core.model
+
+import spock.lang.Specification
+
+class WhenFreezingTestOutcomes extends Specification {
+
+    class SomeTest {}
+
+    def "a frozen test outcome should report the same result, steps and duration"() {
+        given:
+            def outcome = TestOutcome.forTest("test1", SomeTest)
+                    .recordStep(TestStep.forStepCalled("step1").withResult(TestResult.SUCCESS))
+                    .recordStep(TestStep.forStepCalled("step2").withResult(TestResult.FAILURE))
+            def result = outcome.result
+            def steps = outcome.flattenedTestSteps
+            def duration = outcome.duration
+        when:
+            outcome.freeze()
+        then:
+            outcome.result == result
+            outcome.flattenedTestSteps == steps
+            outcome.leafTestSteps == steps
+            outcome.duration == duration
+    }
+
+    def "changing a frozen test outcome should update its result"() {
+        given:
+            def outcome = TestOutcome.forTest("test1", SomeTest)
+                    .recordStep(TestStep.forStepCalled("step1").withResult(TestResult.SUCCESS))
+                    .freeze()
+        when:
+            outcome.recordStep(TestStep.forStepCalled("step2").withResult(TestResult.FAILURE))
+        then:
+            outcome.result == TestResult.FAILURE
+            outcome.flattenedTestSteps.size() == 2
+    }
+
+    def "changing the annotated result of a frozen test outcome should update its result"() {
+        given:
+            def outcome = TestOutcome.forTest("test1", SomeTest)
+                    .recordStep(TestStep.forStepCalled("step1").withResult(TestResult.SUCCESS))
+                    .freeze()
+        when:
+            outcome.setAnnotatedResult(TestResult.PENDING)
+        then:
+            outcome.result == TestResult.PENDING
+    }
+}
@@ -3,6 +3,8 @@ package net.thucydides.core.reports
 import net.thucydides.core.model.TestOutcome
 import net.thucydides.core.model.TestResult
 import net.thucydides.core.model.TestTag
+import net.thucydides.core.requirements.RequirementsService
+import net.thucydides.core.requirements.model.Requirement
 import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.util.MockEnvironmentVariables
 import spock.lang.Specification
@@ -222,6 +224,44 @@ class WhenProcessingTestOutcomes extends Specification {
             tests everyItem(havingTagName("a feature"))
     }
 
+    def "should list tests matching successive filters"() {
+        given:
+            TestOutcomes testOutcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.XML).from(directoryInClasspathCalled("/tagged-test-outcomes"));
+        when:
+            def tests = testOutcomes.withTagType("feature").passingTests.getTests()
+        then:
+            tests == testOutcomes.tests.findAll { test ->
+                test.result == TestResult.SUCCESS && test.tags.any { tag -> tag.type.equalsIgnoreCase("feature") }
+            }
+    }
+
+    def "should find tests by the requirement tags added after the outcomes were indexed"() {
+        given:
+            TestOutcomes testOutcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.XML).from(directoryInClasspathCalled("/tagged-test-outcomes"));
+            def requirementsService = Mock(RequirementsService)
+            requirementsService.getAncestorRequirementsFor(_) >> [Requirement.named("apples").withTypeOf("capability")]
+            testOutcomes.@requirementsService = requirementsService
+            def requirementTag = TestTag.withName("apples").andType("capability")
+        expect:
+            testOutcomes.withTag(requirementTag).total == 0
+        when:
+            def tests = testOutcomes.withRequirementsTags().withTag(requirementTag).getTests()
+        then:
+            tests == testOutcomes.tests
+    }
+
+    def "should list each test only once for a set of overlapping tags"() {
+        given:
+            TestOutcomes testOutcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.XML).from(directoryInClasspathCalled("/tagged-test-outcomes"));
+        when:
+            def tags = [TestTag.withValue("story:a story"), TestTag.withValue("feature:a feature")]
+            def tests = testOutcomes.withTags(tags).getTests()
+        then:
+            tests.size() == tests.unique(false).size()
+        and:
+            tests.every { test -> testOutcomes.tests.contains(test) }
+    }
+
     def "should provide total test duration for a set of tests"() {
         when:
             def testOutcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.XML).from(directoryInClasspathCalled("/tagged-test-outcomes"));
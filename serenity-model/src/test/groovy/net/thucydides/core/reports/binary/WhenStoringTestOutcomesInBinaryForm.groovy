@@ -0,0 +1,72 @@
+package net.thucydides.core.reports.binary
+
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.reports.integration.TestStepFactory
+import net.thucydides.core.reports.json.gson.GsonJSONConverter
+import net.thucydides.core.steps.samples.SomeTestScenario
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class WhenStoringTestOutcomesInBinaryForm extends Specification {
+
+    private static final ZonedDateTime FIRST_OF_JANUARY = ZonedDateTime.of(2013, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault())
+
+    @Rule
+    TemporaryFolder folder = new TemporaryFolder()
+
+    def reporter = new BinaryTestOutcomeReporter(new GsonJSONConverter(new MockEnvironmentVariables()))
+
+    def testOutcome() {
+        def testOutcome = TestOutcome.forTest("should_do_this", SomeTestScenario.class)
+        testOutcome.startTime = FIRST_OF_JANUARY
+        testOutcome.description = "Some description"
+        testOutcome.addTag(TestTag.withName("Some feature").andType("feature"))
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        testOutcome.recordStep(TestStepFactory.failingTestStepCalled("step 2").startingAt(FIRST_OF_JANUARY))
+        return testOutcome
+    }
+
+    def "should load the same test outcome that was stored"() {
+        given:
+            def testOutcome = testOutcome()
+            reporter.outputDirectory = folder.newFolder()
+        when:
+            def report = reporter.generateReportFor(testOutcome)
+            def loadedTestOutcome = reporter.loadReportFrom(report).get()
+        then:
+            report.name.endsWith(".outcome")
+            loadedTestOutcome == testOutcome
+            loadedTestOutcome.testSteps.collect { it.description } == ["step 1", "step 1", "step 2"]
+            loadedTestOutcome.result == testOutcome.result
+            loadedTestOutcome.tags.contains(TestTag.withName("Some feature").andType("feature"))
+    }
+
+    def "should be smaller than the equivalent JSON report"() {
+        given:
+            def testOutcome = testOutcome()
+            def outputDirectory = folder.newFolder()
+            reporter.outputDirectory = outputDirectory
+        when:
+            def binaryReport = reporter.generateReportFor(testOutcome)
+            def jsonReports = new BinaryOutcomeJsonExporter(reporter).export(outputDirectory, outputDirectory)
+        then:
+            jsonReports.size() == 1
+            binaryReport.length() < jsonReports[0].length()
+    }
+
+    def "should ignore files that are not binary test outcomes"() {
+        given:
+            def notAnOutcome = folder.newFile("some-report.outcome")
+            notAnOutcome.text = "{}"
+        expect:
+            !reporter.loadReportFrom(notAnOutcome).isPresent()
+            !reporter.loadReportFrom(folder.newFile("some-report.json")).isPresent()
+    }
+}
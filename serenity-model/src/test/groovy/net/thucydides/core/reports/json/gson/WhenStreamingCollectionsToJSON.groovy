@@ -0,0 +1,59 @@
+package net.thucydides.core.reports.json.gson
+
+import com.google.gson.GsonBuilder
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.reports.integration.TestStepFactory
+import net.thucydides.core.steps.samples.SomeTestScenario
+import spock.lang.Specification
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class WhenStreamingCollectionsToJSON extends Specification {
+
+    private static final ZonedDateTime FIRST_OF_JANUARY = ZonedDateTime.of(2013, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault())
+
+    def treeBasedGson = new GsonBuilder()
+            .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+            .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
+            .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
+            .registerTypeAdapter(File.class, new FileSerializer())
+            .registerTypeAdapter(Class.class, new ClassTypeAdapter())
+            .create()
+
+    def streamingGson = new GsonBuilder()
+            .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+            .registerTypeAdapterFactory(StreamingCollectionAdapter.FACTORY)
+            .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
+            .registerTypeAdapter(File.class, new FileSerializer())
+            .registerTypeAdapter(Class.class, new ClassTypeAdapter())
+            .create()
+
+    def "should write the same JSON as the tree-based collection adapter"() {
+        given:
+            def testOutcome = TestOutcome.forTest("should_do_this", SomeTestScenario.class)
+            testOutcome.startTime = FIRST_OF_JANUARY
+            testOutcome.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+            testOutcome.recordStep(TestStepFactory.failingTestStepCalled("step 2").startingAt(FIRST_OF_JANUARY))
+            testOutcome.calculateDynamicFieldValues()
+        expect:
+            streamingGson.toJson(testOutcome) == treeBasedGson.toJson(testOutcome)
+    }
+
+    def "should leave out empty collections"() {
+        expect:
+            streamingGson.toJson(new SomeLists(names: [], tags: ["a", null])) == '{"tags":["a",null]}'
+    }
+
+    def "should read collections back in"() {
+        when:
+            def lists = streamingGson.fromJson('{"names":["a","b"]}', SomeLists)
+        then:
+            lists.names == ["a", "b"]
+    }
+
+    static class SomeLists {
+        List<String> names
+        List<String> tags
+    }
+}
@@ -0,0 +1,48 @@
+package net.thucydides.core.requirements
+
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.requirements.model.Requirement
+import spock.lang.Specification
+
+class WhenLookingUpRequirementsInAnIndex extends Specification {
+
+    def apple = Requirement.named("apple").withOptionalParent("Fruit").withTypeOf("feature").withPath("fruit/apple.feature")
+    def pear = Requirement.named("pear").withOptionalParent("Fruit").withTypeOf("feature").withFeatureFileyName("pear.feature")
+    def cucumber = Requirement.named("cucumber").withOptionalParent("Veges").withTypeOf("feature")
+    def fruit = Requirement.named("fruit").withTypeOf("capability").withChild(apple).withChild(pear)
+    def veges = Requirement.named("veges").withTypeOf("capability").withChild(cucumber)
+
+    def index = new RequirementsIndex([fruit, veges], { path -> path.replace(".feature", "") })
+
+    def "should find the parent of a requirement"() {
+        expect:
+            index.parentOf(apple).get() == fruit
+            index.parentOf(cucumber).get() == veges
+            !index.parentOf(fruit).isPresent()
+    }
+
+    def "should find requirements by name and type, ignoring case"() {
+        expect:
+            index.requirementNamedAfter(TestTag.withName("Pear").andType("Feature")).get() == pear
+            !index.requirementNamedAfter(TestTag.withName("pear").andType("capability")).isPresent()
+    }
+
+    def "should find requirements with a tag that is as or more specific than a given tag"() {
+        expect:
+            index.requirementAsOrMoreSpecificThan(TestTag.withName("Fruit/apple").andType("feature")).get() == apple
+            index.requirementAsOrMoreSpecificThan(TestTag.withName("cucumber").andType("feature")).get() == cucumber
+            !index.requirementAsOrMoreSpecificThan(TestTag.withName("cucumber").andType("capability")).isPresent()
+    }
+
+    def "should find requirements by feature file name and by equivalent path"() {
+        expect:
+            index.requirementWithFeatureFileName("PEAR.feature").get() == pear
+            index.requirementWithEquivalentPath("Fruit/Apple.feature").get() == apple
+    }
+
+    def "should prefer the match that appears first in the requirements hierarchy"() {
+        expect:
+            index.firstOf(cucumber, null, pear).get() == pear
+            index.firstOf(veges, apple).get() == apple
+    }
+}
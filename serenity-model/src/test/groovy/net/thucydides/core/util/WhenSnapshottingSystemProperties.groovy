@@ -0,0 +1,60 @@
+package net.thucydides.core.util
+
+import spock.lang.Specification
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_PROJECT_NAME
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_TIMEOUT
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_BASE_URL
+
+class WhenSnapshottingSystemProperties extends Specification {
+
+    def environmentVariables = new SystemEnvironmentVariables(new Properties(), [:])
+
+    def "should read property values from the snapshot"() {
+        given:
+            environmentVariables.setProperty("serenity.project.name", "Fruit")
+            environmentVariables.setProperty("serenity.timeout", "500")
+        expect:
+            SERENITY_PROJECT_NAME.from(environmentVariables) == "Fruit"
+            SERENITY_TIMEOUT.integerFrom(environmentVariables, 0) == 500
+    }
+
+    def "should reuse the snapshot until a property changes"() {
+        when:
+            def firstSnapshot = environmentVariables.configurationSnapshot
+        then:
+            environmentVariables.configurationSnapshot.is(firstSnapshot)
+        when:
+            environmentVariables.setProperty("serenity.project.name", "Vegetables")
+        then:
+            !environmentVariables.configurationSnapshot.is(firstSnapshot)
+            SERENITY_PROJECT_NAME.from(environmentVariables) == "Vegetables"
+    }
+
+    def "should see changes made with setProperties and clearProperty"() {
+        when:
+            environmentVariables.setProperties(["serenity.project.name": "Fruit"])
+        then:
+            SERENITY_PROJECT_NAME.from(environmentVariables) == "Fruit"
+        when:
+            environmentVariables.clearProperty("serenity.project.name")
+        then:
+            SERENITY_PROJECT_NAME.from(environmentVariables) == null
+    }
+
+    def "should fall back on legacy property names"() {
+        given:
+            environmentVariables.setProperty("thucydides.project.name", "Legacy")
+        expect:
+            SERENITY_PROJECT_NAME.from(environmentVariables) == "Legacy"
+    }
+
+    def "should resolve environment-specific properties and substitutions"() {
+        given:
+            environmentVariables.setProperty("environment", "staging")
+            environmentVariables.setProperty("environments.staging.host", "staging.example.com")
+            environmentVariables.setProperty("environments.staging.webdriver.base.url", "https://#{host}/home")
+        expect:
+            WEBDRIVER_BASE_URL.from(environmentVariables) == "https://staging.example.com/home"
+    }
+}
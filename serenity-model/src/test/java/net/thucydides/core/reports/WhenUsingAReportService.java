@@ -9,15 +9,21 @@ import org.junit.rules.TemporaryFolder;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +87,80 @@ public class WhenUsingAReportService {
         verify(reporter, times(100)).generateReportFor(Matchers.any(TestOutcome.class));
     }
 
+    @Test
+    public void a_report_service_should_keep_track_of_how_many_reports_it_has_written() throws Exception {
+
+        List<TestOutcome> testOutcomeResults = new ArrayList<>();
+        for(int i = 0; i < 10; i++) {
+            testOutcomeResults.add(TestOutcome.forTest("test" + i, ATestCase.class));
+        }
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<AcceptanceTestReporter>());
+
+        reportService.subscribe(reporter);
+
+        reportService.generateReportsFor(testOutcomeResults);
+        reportService.generateReportsFor(testOutcomeResults);
+
+        assertThat(reportService.getWriterMetrics().getReportsWritten(), is(20L));
+    }
+
+
+    @Test
+    public void reports_that_could_not_be_written_should_be_counted_as_failed() throws Exception {
+
+        List<TestOutcome> testOutcomeResults = new ArrayList<>();
+        testOutcomeResults.add(TestOutcome.forTest("test", ATestCase.class));
+
+        when(reporter.generateReportFor(Matchers.any(TestOutcome.class))).thenThrow(new IOException("disk full"));
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<AcceptanceTestReporter>());
+        reportService.subscribe(reporter);
+
+        try {
+            reportService.generateReportsFor(testOutcomeResults);
+        } catch (ReportGenerationFailedError expected) {
+            // The failure is reported to the caller
+        }
+
+        assertThat(reportService.getWriterMetrics().getReportsWritten(), is(0L));
+        assertThat(reportService.getWriterMetrics().getReportsFailed(), is(1L));
+    }
+
+    @Test
+    public void the_reports_for_a_test_outcome_should_be_written_one_at_a_time() throws Exception {
+
+        List<TestOutcome> testOutcomeResults = new ArrayList<>();
+        for(int i = 0; i < 20; i++) {
+            testOutcomeResults.add(TestOutcome.forTest("test" + i, ATestCase.class));
+        }
+
+        Map<TestOutcome, AtomicInteger> reportersWritingOutcome = new ConcurrentHashMap<>();
+        AtomicBoolean writtenConcurrently = new AtomicBoolean(false);
+        Answer<File> writeSlowly = invocation -> {
+            TestOutcome outcome = (TestOutcome) invocation.getArguments()[0];
+            AtomicInteger writers = reportersWritingOutcome.computeIfAbsent(outcome, key -> new AtomicInteger());
+            if (writers.incrementAndGet() > 1) {
+                writtenConcurrently.set(true);
+            }
+            Thread.sleep(5);
+            writers.decrementAndGet();
+            return null;
+        };
+
+        AcceptanceTestReporter anotherReporter = mock(AcceptanceTestReporter.class);
+        when(reporter.generateReportFor(Matchers.any(TestOutcome.class))).thenAnswer(writeSlowly);
+        when(anotherReporter.generateReportFor(Matchers.any(TestOutcome.class))).thenAnswer(writeSlowly);
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<AcceptanceTestReporter>());
+        reportService.subscribe(reporter);
+        reportService.subscribe(anotherReporter);
+
+        reportService.generateReportsFor(testOutcomeResults);
+
+        assertThat(writtenConcurrently.get(), is(false));
+        assertThat(reportService.getWriterMetrics().getReportsWritten(), is(40L));
+    }
 
     @Test
     public void a_report_service_uses_the_provided_output_directory_for_all_reports() throws Exception {
@@ -3,6 +3,7 @@ package net.thucydides.core.requirements;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestType;
 import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.requirements.model.Requirement;
 import net.thucydides.core.requirements.reports.RequirementOutcome;
 import net.thucydides.core.requirements.reports.RequirementsOutcomes;
@@ -15,6 +16,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
@@ -63,6 +65,19 @@ public class WhenCountingRequirementsInOutcomes {
     }
 
 
+    @Test
+    public void should_find_the_same_outcomes_for_each_requirement_as_a_search_of_the_requirement_tree() throws URISyntaxException, IOException {
+
+        FileSystemRequirements fileSystemRequirements = new FileSystemRequirements(featuresDirectory.getPath());
+
+        RequirementsOutcomes outcomes = fileSystemRequirements.getRequirementsOutcomeFactory().buildRequirementsOutcomesFrom(TestOutcomeLoader.testOutcomesIn(outcomeDirectory));
+
+        for(RequirementOutcome requirementOutcome : outcomes.getRequirementOutcomes()) {
+            TestOutcomes outcomesForRequirement = outcomes.getTestOutcomes().forRequirement(requirementOutcome.getRequirement());
+            assertThat(requirementOutcome.getTestOutcomes().getOutcomes(), containsInAnyOrder(outcomesForRequirement.getOutcomes().toArray()));
+        }
+    }
+
     @Test
     public void should_find_correct_requirements_coverage_for_top_level_requirements_in_cucumber_jvm_outcomes() throws URISyntaxException, IOException {
 
@@ -11,26 +11,43 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 public class CopyFiles {
     private final File sourceDirectory;
+    private final Optional<ScreenshotStore> screenshotStore;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CopyFiles.class);
 
     public CopyFiles(File sourceDirectory) {
+        this(sourceDirectory, Optional.empty());
+    }
+
+    private CopyFiles(File sourceDirectory, Optional<ScreenshotStore> screenshotStore) {
         this.sourceDirectory = sourceDirectory;
+        this.screenshotStore = screenshotStore;
     }
 
     public static CopyFiles from(File sourceDirectory) {
         return new CopyFiles(sourceDirectory);
     }
 
+    /**
+     * Screenshots will be linked from the screenshot store (if there is one) rather than copied.
+     */
+    public CopyFiles withScreenshotStore(Optional<ScreenshotStore> screenshotStore) {
+        return new CopyFiles(sourceDirectory, screenshotStore);
+    }
+
     public void to(File outputDirectory) {
         if (sourceDirectoryIsTheSameAs(outputDirectory)) {
+            deduplicateScreenshotsIn(outputDirectory);
             return;
         }
 
@@ -40,9 +57,10 @@ public class CopyFiles {
         List<Path> filesToCopy = filesToCopyBetween(sourcePath, targetDirectory);
         int numberOfThreads = NumberOfThreads.forIOOperations();
         final List<Callable<Path>> partitions = new ArrayList<>();
+        final Map<String, String> screenshotReferences = new ConcurrentHashMap<>();
 
         for (Path fileToCopy : filesToCopy) {
-            partitions.add(new FileCopier(fileToCopy, targetDirectory));
+            partitions.add(new FileCopier(fileToCopy, targetDirectory, screenshotStore, screenshotReferences));
         }
 
         final ExecutorService executorPool = Executors.newFixedThreadPool(numberOfThreads);
@@ -56,6 +74,29 @@ public class CopyFiles {
         } finally {
             executorPool.shutdown();
         }
+        recordScreenshotReferences(targetDirectory, screenshotReferences);
+    }
+
+    private void deduplicateScreenshotsIn(File outputDirectory) {
+        if (outputDirectory == null || !screenshotStore.isPresent()) {
+            return;
+        }
+        try {
+            screenshotStore.get().deduplicateIn(outputDirectory.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("Could not deduplicate the screenshots in {}: {}", outputDirectory, e.getMessage());
+        }
+    }
+
+    private void recordScreenshotReferences(Path targetDirectory, Map<String, String> screenshotReferences) {
+        if (!screenshotStore.isPresent() || screenshotReferences.isEmpty()) {
+            return;
+        }
+        try {
+            screenshotStore.get().recordReferences(targetDirectory, screenshotReferences);
+        } catch (IOException e) {
+            LOGGER.warn("Could not record the screenshots used in {}: {}", targetDirectory, e.getMessage());
+        }
     }
 
 
@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
 import static net.thucydides.core.reports.html.HtmlAggregateStoryReporter.COPY_OPTIONS;
@@ -16,20 +18,36 @@ class FileCopier implements Callable<Path> {
 
     private final Path sourcePath;
         private final Path targetDirectory;
+        private final Optional<ScreenshotStore> screenshotStore;
+        private final Map<String, String> screenshotReferences;
 
         FileCopier(Path sourcePath, Path targetDirectory) {
+            this(sourcePath, targetDirectory, Optional.empty(), null);
+        }
+
+        FileCopier(Path sourcePath,
+                   Path targetDirectory,
+                   Optional<ScreenshotStore> screenshotStore,
+                   Map<String, String> screenshotReferences) {
             this.sourcePath = sourcePath;
             this.targetDirectory = targetDirectory;
+            this.screenshotStore = screenshotStore;
+            this.screenshotReferences = screenshotReferences;
         }
 
         @Override
         public Path call() throws Exception {
             Path destinationFile = targetDirectory.resolve(sourcePath.getFileName());
             try {
+                if (screenshotStore.isPresent() && ScreenshotStore.isAScreenshot(sourcePath)) {
+                    String digest = screenshotStore.get().linkInto(sourcePath, destinationFile);
+                    screenshotReferences.put(destinationFile.getFileName().toString(), digest);
+                    return destinationFile;
+                }
                 return Files.copy(sourcePath, destinationFile, COPY_OPTIONS);
             } catch (IOException e) {
                 LOGGER.error("Error during copying files to the target directory", e);
                 return null;
             }
         }
-    }
\ No newline at end of file
+    }
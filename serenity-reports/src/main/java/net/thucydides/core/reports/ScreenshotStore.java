@@ -0,0 +1,288 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_SCREENSHOT_STORE;
+
+/**
+ * A content-addressed store for screenshots, shared between report directories, builds and modules.
+ * Each distinct screenshot is stored once, under blobs/ab/cd/abcd...png (using the SHA-256 digest of its contents),
+ * and the report directories contain hard links to these blobs rather than copies, where the file system allows it.
+ * Each report directory also has a reference file under references/ listing the screenshots it uses,
+ * so that blobs that are no longer used by any report directory can be removed with collectGarbage().
+ */
+public class ScreenshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotStore.class);
+
+    private static final List<String> SCREENSHOT_EXTENSIONS = Arrays.asList(".png", ".jpg", ".jpeg");
+
+    private final Path blobDirectory;
+    private final Path referenceDirectory;
+
+    public ScreenshotStore(Path storeDirectory) {
+        this.blobDirectory = storeDirectory.resolve("blobs");
+        this.referenceDirectory = storeDirectory.resolve("references");
+    }
+
+    /**
+     * The screenshot store configured with serenity.screenshot.store, if any.
+     */
+    public static Optional<ScreenshotStore> configuredIn(EnvironmentVariables environmentVariables) {
+        String storeDirectory = SERENITY_SCREENSHOT_STORE.from(environmentVariables);
+        if (StringUtils.isEmpty(storeDirectory)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScreenshotStore(Paths.get(storeDirectory)));
+    }
+
+    public static boolean isAScreenshot(Path file) {
+        String filename = file.getFileName().toString().toLowerCase();
+        return SCREENSHOT_EXTENSIONS.stream().anyMatch(filename::endsWith);
+    }
+
+    /**
+     * Add a screenshot to the store (if it is not already there), and return the path of the stored copy.
+     */
+    public Path store(Path screenshot) throws IOException {
+        Path blob = blobFor(digestOf(screenshot), extensionOf(screenshot));
+        if (Files.exists(blob)) {
+            return blob;
+        }
+        Files.createDirectories(blob.getParent());
+        Path workingCopy = blob.resolveSibling(blob.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            linkOrCopy(screenshot, workingCopy);
+            Files.move(workingCopy, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException storedByAnotherProcess) {
+            LOGGER.debug("Screenshot {} already stored", blob);
+        } finally {
+            Files.deleteIfExists(workingCopy);
+        }
+        return blob;
+    }
+
+    /**
+     * Store a screenshot and place a link to the stored copy at the destination (or a copy, if links are not supported).
+     * Returns the digest of the screenshot.
+     */
+    public String linkInto(Path screenshot, Path destination) throws IOException {
+        Path blob = store(screenshot);
+        Path workingCopy = destination.resolveSibling(destination.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            linkOrCopy(blob, workingCopy);
+            Files.move(workingCopy, destination, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(workingCopy);
+        }
+        return digestFrom(blob);
+    }
+
+    /**
+     * Replace each screenshot in a report directory with a link to the stored copy, and record these references.
+     * Screenshots already recorded for this directory that have not changed since they were stored are skipped,
+     * so that they are not read and hashed again on every run.
+     */
+    public void deduplicateIn(Path reportDirectory) throws IOException {
+        Map<String, String> knownDigests = readReferencesFrom(referenceFileFor(reportDirectory));
+        Map<String, String> references = new ConcurrentHashMap<>();
+        try (Stream<Path> files = Files.list(reportDirectory)) {
+            files.filter(ScreenshotStore::isAScreenshot)
+                 .filter(screenshot -> !alreadyStored(screenshot, knownDigests.get(screenshot.getFileName().toString())))
+                 .parallel()
+                 .forEach(screenshot -> {
+                     try {
+                         references.put(screenshot.getFileName().toString(), linkInto(screenshot, screenshot));
+                     } catch (IOException e) {
+                         LOGGER.warn("Could not add {} to the screenshot store: {}", screenshot, e.getMessage());
+                     }
+                 });
+        }
+        recordReferences(reportDirectory, references);
+    }
+
+    /**
+     * A screenshot is unchanged since it was stored if it is a link to the stored copy, or a copy of it with the same
+     * size and modification time (copies keep the modification time of the stored copy).
+     */
+    private boolean alreadyStored(Path screenshot, String recordedDigest) {
+        if (recordedDigest == null || recordedDigest.length() < 4) {
+            return false;
+        }
+        Path blob = blobFor(recordedDigest, extensionOf(screenshot));
+        try {
+            return Files.exists(blob)
+                    && (Files.isSameFile(screenshot, blob)
+                        || (Files.size(screenshot) == Files.size(blob)
+                            && Files.getLastModifiedTime(screenshot).equals(Files.getLastModifiedTime(blob))));
+        } catch (IOException couldNotCompare) {
+            return false;
+        }
+    }
+
+    /**
+     * Record the screenshots (file name and digest) used by a report directory.
+     * These are added to any references previously recorded for this directory.
+     */
+    public synchronized void recordReferences(Path reportDirectory, Map<String, String> screenshotDigests) throws IOException {
+        Path referenceFile = referenceFileFor(reportDirectory);
+        Map<String, String> references = new TreeMap<>(readReferencesFrom(referenceFile));
+        references.putAll(screenshotDigests);
+        writeReferences(referenceFile, reportDirectory, references);
+    }
+
+    /**
+     * Remove the blobs that are not used by any existing report directory.
+     * A blob is still in use if a report directory that references it still contains the corresponding screenshot.
+     */
+    public synchronized GarbageCollectionResult collectGarbage() throws IOException {
+        Set<String> liveDigests = new HashSet<>();
+        if (Files.exists(referenceDirectory)) {
+            try (DirectoryStream<Path> referenceFiles = Files.newDirectoryStream(referenceDirectory, "*.refs")) {
+                for (Path referenceFile : referenceFiles) {
+                    liveDigests.addAll(liveReferencesIn(referenceFile));
+                }
+            }
+        }
+
+        GarbageCollectionResult result = new GarbageCollectionResult();
+        if (!Files.exists(blobDirectory)) {
+            return result;
+        }
+        try (Stream<Path> blobs = Files.walk(blobDirectory)) {
+            for (Path blob : blobs.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                if (!liveDigests.contains(digestFrom(blob))) {
+                    result.recordDeletedBlob(Files.size(blob));
+                    Files.deleteIfExists(blob);
+                } else {
+                    result.recordKeptBlob();
+                }
+            }
+        }
+        LOGGER.info("Screenshot store garbage collection: {}", result);
+        return result;
+    }
+
+    private Set<String> liveReferencesIn(Path referenceFile) throws IOException {
+        List<String> lines = Files.readAllLines(referenceFile, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !Files.isDirectory(Paths.get(lines.get(0)))) {
+            Files.deleteIfExists(referenceFile);
+            return Collections.emptySet();
+        }
+        Path reportDirectory = Paths.get(lines.get(0));
+        Map<String, String> references = readReferencesFrom(referenceFile);
+        Map<String, String> liveReferences = references.entrySet().stream()
+                .filter(reference -> Files.exists(reportDirectory.resolve(reference.getKey())))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+        if (liveReferences.size() != references.size()) {
+            writeReferences(referenceFile, reportDirectory, liveReferences);
+        }
+        return new HashSet<>(liveReferences.values());
+    }
+
+    private Path referenceFileFor(Path reportDirectory) {
+        String directoryKey = DigestUtils.sha256Hex(reportDirectory.toAbsolutePath().normalize().toString());
+        return referenceDirectory.resolve(directoryKey + ".refs");
+    }
+
+    /**
+     * Reference files contain the report directory on the first line, followed by one "filename digest" line per screenshot.
+     */
+    private Map<String, String> readReferencesFrom(Path referenceFile) throws IOException {
+        if (!Files.exists(referenceFile)) {
+            return Collections.emptyMap();
+        }
+        return Files.readAllLines(referenceFile, StandardCharsets.UTF_8).stream()
+                .skip(1)
+                .filter(line -> line.lastIndexOf(' ') > 0)
+                .collect(Collectors.toMap(line -> line.substring(0, line.lastIndexOf(' ')),
+                                          line -> line.substring(line.lastIndexOf(' ') + 1),
+                                          (a, b) -> b));
+    }
+
+    private void writeReferences(Path referenceFile, Path reportDirectory, Map<String, String> references) throws IOException {
+        Files.createDirectories(referenceDirectory);
+        List<String> lines = new ArrayList<>();
+        lines.add(reportDirectory.toAbsolutePath().normalize().toString());
+        references.forEach((filename, digest) -> lines.add(filename + " " + digest));
+        Files.write(referenceFile, lines, StandardCharsets.UTF_8);
+    }
+
+    private Path blobFor(String digest, String extension) {
+        return blobDirectory.resolve(digest.substring(0, 2))
+                            .resolve(digest.substring(2, 4))
+                            .resolve(digest + extension);
+    }
+
+    private static String digestFrom(Path blob) {
+        String filename = blob.getFileName().toString();
+        int extension = filename.indexOf('.');
+        return (extension < 0) ? filename : filename.substring(0, extension);
+    }
+
+    private static String extensionOf(Path screenshot) {
+        String filename = screenshot.getFileName().toString();
+        int extension = filename.lastIndexOf('.');
+        return (extension < 0) ? "" : filename.substring(extension).toLowerCase();
+    }
+
+    private static String digestOf(Path screenshot) throws IOException {
+        try (InputStream in = Files.newInputStream(screenshot)) {
+            return DigestUtils.sha256Hex(in);
+        }
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | IOException linksNotSupported) {
+            Files.deleteIfExists(target);
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    public static class GarbageCollectionResult {
+        private int deletedBlobs;
+        private int keptBlobs;
+        private long reclaimedBytes;
+
+        void recordDeletedBlob(long size) {
+            deletedBlobs++;
+            reclaimedBytes += size;
+        }
+
+        void recordKeptBlob() {
+            keptBlobs++;
+        }
+
+        public int getDeletedBlobs() {
+            return deletedBlobs;
+        }
+
+        public int getKeptBlobs() {
+            return keptBlobs;
+        }
+
+        public long getReclaimedBytes() {
+            return reclaimedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d unused screenshots deleted (%d bytes), %d screenshots kept", deletedBlobs, reclaimedBytes, keptBlobs);
+        }
+    }
+}
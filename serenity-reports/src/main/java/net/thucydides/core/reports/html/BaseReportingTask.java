@@ -7,11 +7,8 @@ import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -38,10 +35,8 @@ public abstract class BaseReportingTask implements ReportingTask {
                                     final String outputFile) throws IOException {
 
         Path outputPath = outputDirectory.toPath().resolve(outputFile);
-        try(BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            mergeTemplate(template).withContext(context).to(writer);
-            writer.flush();
-        }
+        ReportPageWriter.forEnvironment(environmentVariables)
+                        .write(outputPath, writer -> mergeTemplate(template).withContext(context).to(writer));
     }
 
     protected Merger mergeTemplate(final String templateFile) {
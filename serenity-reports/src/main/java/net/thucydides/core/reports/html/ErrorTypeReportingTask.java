@@ -2,13 +2,16 @@ package net.thucydides.core.reports.html;
 
 import net.serenitybdd.core.time.Stopwatch;
 import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.util.EnvironmentVariables;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
 
@@ -48,4 +51,14 @@ public class ErrorTypeReportingTask extends BaseReportingTask implements Reporti
 
         LOGGER.debug("Error type reports generated in {} ms ", stopwatch.stop());
     }
+
+    @Override
+    public Optional<String> getReportName() {
+        return Optional.of(filename);
+    }
+
+    @Override
+    public List<? extends TestOutcome> getSourceOutcomes() {
+        return testOutcomes.getOutcomes();
+    }
 }
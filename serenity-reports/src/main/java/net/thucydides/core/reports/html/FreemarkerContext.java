@@ -96,10 +96,11 @@ public class FreemarkerContext {
         addFormattersToContext(context);
 
         context.put("totalTestDuration", formattedDuration(Duration.ofMillis(testOutcomes.getDuration())));
-        context.put("totalClockDuration", formattedDuration(clockDurationOf(testOutcomes.getOutcomes())));
-        context.put("averageTestDuration", formattedDuration(averageDurationOf(testOutcomes.getOutcomes())));
-        context.put("maxTestDuration", formattedDuration(maxDurationOf(testOutcomes.getOutcomes())));
-        context.put("minTestDuration", formattedDuration(minDurationOf(testOutcomes.getOutcomes())));
+        OutcomeStatistics outcomeStatistics = OutcomeStatistics.of(testOutcomes.getOutcomes());
+        context.put("totalClockDuration", formattedDuration(outcomeStatistics.getClockDuration()));
+        context.put("averageTestDuration", formattedDuration(outcomeStatistics.getAverageDuration()));
+        context.put("maxTestDuration", formattedDuration(outcomeStatistics.getMaxDuration()));
+        context.put("minTestDuration", formattedDuration(outcomeStatistics.getMinDuration()));
 
         VersionProvider versionProvider = new VersionProvider(environmentVariables);
         context.put("serenityVersionNumber", versionProvider.getVersion());
@@ -26,11 +26,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -135,10 +132,8 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
         LOGGER.debug("Generating report in {}", outputFile);
 
         Path outputPath = getOutputDirectory().toPath().resolve(outputFile);
-        try(BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            mergeTemplate(template).withContext(context).to(writer);
-            writer.flush();
-        }
+        ReportPageWriter.forEnvironment(getEnvironmentVariables())
+                        .write(outputPath, writer -> mergeTemplate(template).withContext(context).to(writer));
 
         LOGGER.debug("Generated report {} in {} ms", outputFile, stopwatch.stop());
         return outputPath.toFile();
@@ -5,8 +5,10 @@ import net.serenitybdd.core.time.Stopwatch;
 import net.serenitybdd.reports.model.FrequentFailure;
 import net.serenitybdd.reports.model.FrequentFailures;
 import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.digest.Digest;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.*;
 import net.thucydides.core.requirements.DefaultRequirements;
@@ -30,6 +32,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
 import static net.thucydides.core.ThucydidesSystemProperty.REPORT_SCOREBOARD_SIZE;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REPORT_INCREMENTAL;
 import static net.thucydides.core.guice.Injectors.getInjector;
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -56,6 +59,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private final EnvironmentVariables environmentVariables;
     private FormatConfiguration formatConfiguration;
     private boolean generateTestOutcomeReports = false;
+    private File sourceDirectory;
 
     public static final CopyOption[] COPY_OPTIONS = new CopyOption[]{StandardCopyOption.COPY_ATTRIBUTES};
 
@@ -121,6 +125,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     public TestOutcomes generateReportsForTestResultsFrom(final File sourceDirectory) throws IOException {
 
         Stopwatch stopwatch = Stopwatch.started();
+        this.sourceDirectory = sourceDirectory;
         copyScreenshotsFrom(sourceDirectory);
 
         LOGGER.debug("Copied screenshots after {}", stopwatch.lapTimeFormatted());
@@ -140,7 +145,9 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     private void copyScreenshotsFrom(File sourceDirectory) {
-        CopyFiles.from(sourceDirectory).to(getOutputDirectory());
+        CopyFiles.from(sourceDirectory)
+                 .withScreenshotStore(ScreenshotStore.configuredIn(environmentVariables))
+                 .to(getOutputDirectory());
     }
 
     public void generateReportsForTestResultsIn(TestOutcomes testOutcomes) throws IOException {
@@ -209,10 +216,61 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         );
 
         LOGGER.info("Starting generating reports after {}", stopwatch.lapTimeFormatted());
-        Reporter.generateReportsFor(reportingTasks);
+        if (shouldGenerateReportsIncrementally()) {
+            generateReportsIncrementally(reportingTasks, layoutFingerprintFor(testOutcomes, knownRequirementReportNames));
+        } else {
+            Reporter.generateReportsFor(reportingTasks, getOutputDirectory());
+        }
         LOGGER.info("Test results for {} tests generated in {}", testOutcomes.getTestCount(), stopwatch.executionTimeFormatted());
     }
 
+    private boolean shouldGenerateReportsIncrementally() {
+        return (sourceDirectory != null) && SERENITY_REPORT_INCREMENTAL.booleanFrom(environmentVariables, false);
+    }
+
+    private void generateReportsIncrementally(Set<ReportingTask> reportingTasks, String layoutFingerprint) throws IOException {
+        ReportManifest previousManifest = ReportManifest.loadFrom(getOutputDirectory());
+        ReportManifest currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, getFormat().getExtension(), layoutFingerprint);
+
+        List<ReportingTask> outdatedTasks = reportingTasks.parallelStream()
+                .filter(task -> isOutdated(task, previousManifest, currentManifest))
+                .collect(Collectors.toList());
+
+        LOGGER.info("Incremental reporting: {} of {} reporting tasks need to be regenerated", outdatedTasks.size(), reportingTasks.size());
+
+        if (Reporter.generateReportsFor(outdatedTasks, getOutputDirectory())) {
+            currentManifest.saveTo(getOutputDirectory());
+        } else {
+            ReportManifest.deleteFrom(getOutputDirectory());
+        }
+    }
+
+    private boolean isOutdated(ReportingTask task, ReportManifest previousManifest, ReportManifest currentManifest) {
+        if (!task.getReportName().isPresent()) {
+            return true;
+        }
+        String reportName = task.getReportName().get();
+        currentManifest.recordPage(reportName, task.getSourceOutcomes());
+
+        boolean pageExists = getOutputDirectory().toPath().resolve(reportName).toFile().exists();
+        return !(pageExists && currentManifest.pageIsUpToDateIn(previousManifest, reportName));
+    }
+
+    /**
+     * Every page shows the tag types, tags and requirements of the whole test suite,
+     * so a change in any of these means that every page needs to be regenerated.
+     */
+    private String layoutFingerprintFor(TestOutcomes testOutcomes, List<String> knownRequirementReportNames) {
+        List<String> layoutElements = new ArrayList<>(testOutcomes.getTagTypes());
+        testOutcomes.getTags().forEach(tag -> layoutElements.add(tag.toString()));
+        layoutElements.addAll(knownRequirementReportNames);
+        testOutcomes.getOutcomes().stream()
+                .map(TestOutcome::getReportName)
+                .sorted()
+                .forEach(layoutElements::add);
+        return Digest.ofTextValue(String.join(",", layoutElements));
+    }
+
     private Set<ReportingTask> nestedTagReports(TestOutcomes testOutcomes, FreemarkerContext context, List<String> knownRequirementReportNames) {
         Set<ReportingTask> reportingTasks = new HashSet<>();
 
@@ -120,7 +120,7 @@ public abstract class HtmlReporter extends ThucydidesReporter {
     }
 
     protected Merger mergeTemplate(final String templateFile) {
-        return new Merger(templateFile);
+        return new Merger(templateFile, getTemplateManager());
     }
 
 
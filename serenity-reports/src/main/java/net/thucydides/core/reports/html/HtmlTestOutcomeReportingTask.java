@@ -10,7 +10,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public class HtmlTestOutcomeReportingTask implements ReportingTask {
@@ -44,6 +47,16 @@ public class HtmlTestOutcomeReportingTask implements ReportingTask {
         reporter.generateReportFor(testOutcome);
     }
 
+    @Override
+    public Optional<String> getReportName() {
+        return Optional.of(testOutcome.getHtmlReport());
+    }
+
+    @Override
+    public List<? extends TestOutcome> getSourceOutcomes() {
+        return Collections.singletonList(testOutcome);
+    }
+
 
     public static TestOutcomeReportBuilder testOutcomeReportsFor(TestOutcomes testOutcomes) {
         return new TestOutcomeReportBuilder(testOutcomes);
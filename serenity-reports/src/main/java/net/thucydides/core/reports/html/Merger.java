@@ -11,8 +11,19 @@ public class Merger {
     final TemplateManager templateManager;
 
     public Merger(final String templateFile) {
+        this(templateFile, SharedTemplateManager.INSTANCE);
+    }
+
+    public Merger(final String templateFile, final TemplateManager templateManager) {
         this.templateFile = templateFile;
-        this.templateManager = Injectors.getInjector().getInstance(TemplateManager.class);
+        this.templateManager = templateManager;
+    }
+
+    /**
+     * The template manager is a singleton, so it only needs to be looked up once rather than for every report page.
+     */
+    private static class SharedTemplateManager {
+        private static final TemplateManager INSTANCE = Injectors.getInjector().getInstance(TemplateManager.class);
     }
 
     public MergeBuilder withContext(final Map<String, Object> context) {
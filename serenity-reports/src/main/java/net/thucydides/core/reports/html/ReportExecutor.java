@@ -7,38 +7,103 @@ import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.Callable;
 
+import static java.lang.System.currentTimeMillis;
+
 class ReportExecutor implements Callable<Void> {
     private final ReportingTask reportingTask;
+    private final int estimatedCost;
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(ReportExecutor.class);
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     private final EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
 
+    private volatile long startTimeInMillis = 0;
+    private volatile long durationInMillis = 0;
+    private volatile long allocatedBytes = -1;
+    private volatile String status = "NOT_STARTED";
+
     public ReportExecutor(ReportingTask reportingTask) {
         this.reportingTask = reportingTask;
+        this.estimatedCost = reportingTask.getEstimatedCost();
     }
 
     public ReportingTask getReportingTask() {
         return reportingTask;
     }
 
+    public int getEstimatedCost() {
+        return estimatedCost;
+    }
+
     @Override
     public Void call() throws Exception {
         Stopwatch reportingStopwatch = Stopwatch.started();
+        startTimeInMillis = currentTimeMillis();
+        long allocatedBytesAtStart = allocatedBytesForCurrentThread();
         if (verboseReporting()) {
             LOGGER.info("Generating report {}...", reportingTask);
         }
-        reportingTask.generateReports();
+        status = "RUNNING";
+        try {
+            reportingTask.generateReports();
+            status = "GENERATED";
+        } catch (Exception e) {
+            status = "FAILED";
+            throw e;
+        } finally {
+            durationInMillis = reportingStopwatch.stop();
+            allocatedBytes = (allocatedBytesAtStart < 0) ? -1 : allocatedBytesForCurrentThread() - allocatedBytesAtStart;
+        }
         if (verboseReporting()) {
-            LOGGER.info("Report {} generated in {} ms", reportingTask, reportingStopwatch.stop());
+            LOGGER.info("Report {} generated in {} ms", reportingTask, durationInMillis);
         }
         return null;
     }
 
+    boolean hasStarted() {
+        return startTimeInMillis > 0;
+    }
+
+    long getStartTimeInMillis() {
+        return startTimeInMillis;
+    }
+
+    void markAsTimedOut() {
+        status = "TIMED_OUT";
+    }
+
+    ReportTaskTimings.ReportTaskTiming timingRelativeTo(long reportStartTimeInMillis) {
+        long duration = ("RUNNING".equals(status) || "TIMED_OUT".equals(status)) ? currentTimeMillis() - startTimeInMillis : durationInMillis;
+        return new ReportTaskTimings.ReportTaskTiming(reportingTask.toString(),
+                                                      reportingTask.getReportName().orElse(null),
+                                                      estimatedCost,
+                                                      status,
+                                                      hasStarted() ? startTimeInMillis - reportStartTimeInMillis : -1,
+                                                      hasStarted() ? duration : 0,
+                                                      allocatedBytes);
+    }
+
+    /**
+     * Only available on JVMs that support per-thread allocation counters; -1 otherwise.
+     */
+    private static long allocatedBytesForCurrentThread() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+            if (threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
     private Boolean verboseReporting() {
         return ThucydidesSystemProperty.VERBOSE_REPORTING.booleanFrom(environmentVariables, false);
 //        return environmentVariables.getPropertyAsBoolean("verbose.reporting", false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import net.thucydides.core.model.TestOutcome;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static net.thucydides.core.reports.TestOutcomeLoader.REPORT_TIMINGS_FILE;
+
+/**
+ * Records the digests of the serialized test outcomes used to produce an aggregate report,
+ * and the outcomes that appear in each report page.
+ * This lets a later report run work out which pages need to be generated again.
+ */
+class ReportManifest {
+
+    static final String MANIFEST_FILE = "serenity-report-manifest.json";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportManifest.class);
+
+    private String layoutFingerprint = "";
+    private Map<String, String> outcomeDigests = new HashMap<>();
+    private Map<String, List<String>> pages = new HashMap<>();
+
+    private ReportManifest() {}
+
+    private ReportManifest(String layoutFingerprint, Map<String, String> outcomeDigests) {
+        this.layoutFingerprint = layoutFingerprint;
+        this.outcomeDigests = outcomeDigests;
+        this.pages = new ConcurrentHashMap<>();
+    }
+
+    static ReportManifest empty() {
+        return new ReportManifest();
+    }
+
+    /**
+     * Create a new manifest for the outcome files in the source directory.
+     * Outcomes are identified by their root report name, which is the outcome file name without the extension.
+     */
+    static ReportManifest forOutcomeFilesIn(File sourceDirectory, String extension, String layoutFingerprint) {
+        File[] outcomeFiles = sourceDirectory.listFiles((dir, name) -> name.endsWith(extension)
+                                                                          && !name.endsWith("manifest.json")
+                                                                          && !name.equals(REPORT_TIMINGS_FILE));
+        if (outcomeFiles == null) {
+            return new ReportManifest(layoutFingerprint, new HashMap<>());
+        }
+        Map<String, String> digests = Arrays.stream(outcomeFiles)
+                .parallel()
+                .collect(Collectors.toConcurrentMap(
+                        file -> file.getName().substring(0, file.getName().length() - extension.length()),
+                        ReportManifest::digestOf));
+        return new ReportManifest(layoutFingerprint, new HashMap<>(digests));
+    }
+
+    static ReportManifest loadFrom(File outputDirectory) {
+        Path manifestFile = outputDirectory.toPath().resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestFile)) {
+            return empty();
+        }
+        try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            ReportManifest manifest = new Gson().fromJson(reader, ReportManifest.class);
+            return (manifest == null) ? empty() : manifest;
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warn("Could not read the report manifest - all report pages will be regenerated ({})", e.getMessage());
+            return empty();
+        }
+    }
+
+    void saveTo(File outputDirectory) throws IOException {
+        Path manifestFile = outputDirectory.toPath().resolve(MANIFEST_FILE);
+        try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            new Gson().toJson(this, writer);
+        }
+    }
+
+    static void deleteFrom(File outputDirectory) throws IOException {
+        Files.deleteIfExists(outputDirectory.toPath().resolve(MANIFEST_FILE));
+    }
+
+    void recordPage(String reportName, List<? extends TestOutcome> sourceOutcomes) {
+        pages.put(reportName, outcomeKeysOf(sourceOutcomes));
+    }
+
+    /**
+     * A page is up to date if the report layout is unchanged, if it was produced from exactly the same outcomes,
+     * and if none of these outcomes have changed since the previous manifest was written.
+     */
+    boolean pageIsUpToDateIn(ReportManifest previousManifest, String reportName) {
+        if (!layoutFingerprint.equals(previousManifest.layoutFingerprint)) {
+            return false;
+        }
+        List<String> previousOutcomes = previousManifest.pages.get(reportName);
+        List<String> currentOutcomes = pages.get(reportName);
+        if (previousOutcomes == null || !previousOutcomes.equals(currentOutcomes)) {
+            return false;
+        }
+        return currentOutcomes.stream().allMatch(outcome -> sameDigestIn(previousManifest, outcome));
+    }
+
+    private boolean sameDigestIn(ReportManifest previousManifest, String outcome) {
+        String digest = outcomeDigests.get(outcome);
+        return digest != null && !digest.isEmpty() && digest.equals(previousManifest.outcomeDigests.get(outcome));
+    }
+
+    private static List<String> outcomeKeysOf(List<? extends TestOutcome> outcomes) {
+        return outcomes.stream()
+                .map(TestOutcome::getReportName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String digestOf(File outcomeFile) {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(outcomeFile))) {
+            return DigestUtils.sha256Hex(in);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read test outcome file {}: {}", outcomeFile, e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static net.thucydides.core.ThucydidesSystemProperty.REPORT_PAGE_DIRECT_WRITE;
+
+/**
+ * Writes generated report pages to disk.
+ * By default, pages are written through a large buffered writer. If report.page.direct.write is set, each page is
+ * rendered into a buffer that is reused by the report thread, and then encoded straight into a FileChannel.
+ */
+class ReportPageWriter {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int ENCODING_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Buffers larger than this (in characters) are not kept once the page has been written,
+     * so that a single very large page does not hold on to memory for the rest of the report.
+     */
+    private static final int MAX_RETAINED_PAGE_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private static final ThreadLocal<StringBuilder> PAGE_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(OUTPUT_BUFFER_SIZE));
+    private static final ThreadLocal<ByteBuffer> ENCODING_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(ENCODING_BUFFER_SIZE));
+    private static final ThreadLocal<CharsetEncoder> ENCODER = ThreadLocal.withInitial(
+            () -> StandardCharsets.UTF_8.newEncoder()
+                                        .onMalformedInput(CodingErrorAction.REPLACE)
+                                        .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    private final boolean writeDirectlyToChannel;
+
+    private ReportPageWriter(boolean writeDirectlyToChannel) {
+        this.writeDirectlyToChannel = writeDirectlyToChannel;
+    }
+
+    static ReportPageWriter forEnvironment(EnvironmentVariables environmentVariables) {
+        return new ReportPageWriter(REPORT_PAGE_DIRECT_WRITE.booleanFrom(environmentVariables, false));
+    }
+
+    void write(Path outputPath, Consumer<Writer> pageContents) throws IOException {
+        if (writeDirectlyToChannel) {
+            writeThroughChannel(outputPath, pageContents);
+        } else {
+            writeThroughBufferedWriter(outputPath, pageContents);
+        }
+    }
+
+    private void writeThroughBufferedWriter(Path outputPath, Consumer<Writer> pageContents) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputPath), StandardCharsets.UTF_8),
+                                                OUTPUT_BUFFER_SIZE)) {
+            pageContents.accept(writer);
+        }
+    }
+
+    private void writeThroughChannel(Path outputPath, Consumer<Writer> pageContents) throws IOException {
+        StringBuilder page = PAGE_BUFFER.get();
+        page.setLength(0);
+        try {
+            pageContents.accept(new StringBuilderWriter(page));
+            try (FileChannel channel = FileChannel.open(outputPath, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                encodeTo(channel, page);
+            }
+        } finally {
+            if (page.capacity() > MAX_RETAINED_PAGE_BUFFER_SIZE) {
+                PAGE_BUFFER.remove();
+            } else {
+                page.setLength(0);
+            }
+        }
+    }
+
+    private void encodeTo(FileChannel channel, CharSequence page) throws IOException {
+        CharsetEncoder encoder = ENCODER.get().reset();
+        ByteBuffer bytes = ENCODING_BUFFER.get();
+        bytes.clear();
+
+        CharBuffer chars = CharBuffer.wrap(page);
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            drain(bytes, channel);
+        } while (result.isOverflow());
+
+        while (encoder.flush(bytes).isOverflow()) {
+            drain(bytes, channel);
+        }
+        drain(bytes, channel);
+    }
+
+    private void drain(ByteBuffer bytes, FileChannel channel) throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    /**
+     * An unsynchronized alternative to StringWriter, as each page is only ever rendered by a single thread.
+     */
+    private static class StringBuilderWriter extends Writer {
+        private final StringBuilder buffer;
+
+        StringBuilderWriter(StringBuilder buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            buffer.append(text, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence text) {
+            buffer.append(text);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static net.thucydides.core.reports.TestOutcomeLoader.REPORT_TIMINGS_FILE;
+
+/**
+ * The time taken (and, where the JVM supports it, the memory allocated) to generate each report page.
+ * These are written to serenity-report-timings.json in the report directory, so that report generation times
+ * can be compared from one build to the next.
+ */
+class ReportTaskTimings {
+
+    private final long totalDurationInMillis;
+    private final int pagesInFlight;
+    private final List<ReportTaskTiming> tasks;
+
+    ReportTaskTimings(long totalDurationInMillis, int pagesInFlight, List<ReportTaskTiming> tasks) {
+        this.totalDurationInMillis = totalDurationInMillis;
+        this.pagesInFlight = pagesInFlight;
+        this.tasks = new ArrayList<>(tasks);
+        this.tasks.sort(Comparator.comparing(ReportTaskTiming::getDurationInMillis).reversed());
+    }
+
+    List<ReportTaskTiming> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    void saveTo(File outputDirectory) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(outputDirectory.toPath().resolve(REPORT_TIMINGS_FILE), StandardCharsets.UTF_8)) {
+            gson.toJson(this, writer);
+        }
+    }
+
+    static class ReportTaskTiming {
+        private final String task;
+        private final String reportName;
+        private final int estimatedCost;
+        private final String status;
+        private final long startOffsetInMillis;
+        private final long durationInMillis;
+        private final long allocatedBytes;
+
+        ReportTaskTiming(String task,
+                         String reportName,
+                         int estimatedCost,
+                         String status,
+                         long startOffsetInMillis,
+                         long durationInMillis,
+                         long allocatedBytes) {
+            this.task = task;
+            this.reportName = reportName;
+            this.estimatedCost = estimatedCost;
+            this.status = status;
+            this.startOffsetInMillis = startOffsetInMillis;
+            this.durationInMillis = durationInMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        String getTask() {
+            return task;
+        }
+
+        String getStatus() {
+            return status;
+        }
+
+        long getDurationInMillis() {
+            return durationInMillis;
+        }
+
+        long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -8,10 +8,14 @@ import net.thucydides.core.reports.*;
 import net.thucydides.core.util.*;
 import org.slf4j.*;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.*;
 
+import static net.thucydides.core.ThucydidesSystemProperty.REPORT_MAX_PAGES_IN_FLIGHT;
 import static net.thucydides.core.ThucydidesSystemProperty.REPORT_TIMEOUT_THREADDUMPS;
 
 class Reporter {
@@ -24,37 +28,65 @@ class Reporter {
 
     private final EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
 
-    private Reporter(Collection<ReportingTask> reportingTasks) {
+    private final File outputDirectory;
+
+    private Reporter(Collection<ReportingTask> reportingTasks, File outputDirectory) {
         this.reportingTasks = reportingTasks;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Generate the report pages for each reporting task, and record how long each page took in the output directory.
+     * @return true if every report page was generated successfully.
+     */
+    public static boolean generateReportsFor(Collection<ReportingTask> reportingTasks, File outputDirectory) {
+        return new Reporter(reportingTasks, outputDirectory).generateReports();
     }
 
-    public static void generateReportsFor(Collection<ReportingTask> reportingTasks) {
-        new Reporter(reportingTasks).generateReports();
+    /**
+     * The most expensive pages are started first, so that they do not end up running on their own at the end of the report.
+     */
+    static List<ReportExecutor> inSchedulingOrder(Collection<ReportingTask> reportingTasks) {
+        return reportingTasks.stream()
+                .map(ReportExecutor::new)
+                .sorted(Comparator.comparing(ReportExecutor::getEstimatedCost).reversed())
+                .collect(Collectors.toList());
     }
 
-    private void generateReports() {
+    private boolean generateReports() {
         Stopwatch stopwatch = Stopwatch.started();
+        long reportStartTime = System.currentTimeMillis();
+
+        final int reportThreads = NumberOfThreads.forIOOperations();
+        ExecutorService executorPool = Executors.newFixedThreadPool(reportThreads);
 
-        ExecutorService executorPool = Executors.newFixedThreadPool(NumberOfThreads.forIOOperations());
+        final TimeoutValue timeout = TimeoutConfiguration.from(environmentVariables).forProperty("report.timeout", DEFAULT_TIMEOUT);
+        final int maxPagesInFlight = maxPagesInFlight(reportThreads);
+        final Semaphore pagesInFlight = new Semaphore(maxPagesInFlight);
+        final AtomicLong lastCompletedPageTime = new AtomicLong(System.currentTimeMillis());
 
         ErrorTally errorTally = new ErrorTally();
+        List<ReportExecutor> partitions = new ArrayList<>();
         try {
-            final List<ReportExecutor> partitions
-                    = reportingTasks.stream()
-                    .map(ReportExecutor::new)
-                    .collect(Collectors.toList());
+            partitions = inSchedulingOrder(reportingTasks);
 
-            final List<ReportExecutorFuture> futures
-                    = partitions.stream()
-                    .map( partition -> new ReportExecutorFuture(executorPool.submit(partition), partition.getReportingTask()) )
-                    .collect(Collectors.toList());
-
-            final TimeoutValue timeout = TimeoutConfiguration.from(environmentVariables).forProperty("report.timeout", DEFAULT_TIMEOUT);
+            final List<ReportExecutorFuture> futures = new ArrayList<>();
+            for (ReportExecutor partition : partitions) {
+                if (!pagesInFlight.tryAcquire(timeout.getTimeout(), timeout.getUnit())) {
+                    String errorMessage = String.format("Report generation timed out: no report page completed within %d %s, %d report pages were not generated",
+                                                        timeout.getTimeout(), timeout.getUnit(), partitions.size() - futures.size());
+                    errorTally.recordReportFailure(errorMessage);
+                    LOGGER.warn(errorMessage);
+                    break;
+                }
+                futures.add(new ReportExecutorFuture(submit(executorPool, partition, pagesInFlight, lastCompletedPageTime), partition));
+            }
 
             for (ReportExecutorFuture executedTask : futures) {
                 try {
-                    executedTask.getFuture().get(timeout.getTimeout(), timeout.getUnit());
+                    executedTask.awaitCompletionWithin(timeout, lastCompletedPageTime);
                 } catch (TimeoutException reportGenerationTimedOut) {
+                    executedTask.cancel();
                     String errorMessage = reportFailureMessage("Report generation timed out", executedTask, reportGenerationTimedOut);
                     errorTally.recordReportFailure(errorMessage);
                     LOGGER.warn(errorMessage);
@@ -70,11 +102,15 @@ class Reporter {
             }
         } catch (Exception e) {
             LOGGER.error("Report generation failed", e);
+            errorTally.recordReportFailure("Report generation failed: " + e.getMessage());
         } finally {
             executorPool.shutdown();
         }
 
-        LOGGER.debug("Test outcome reports generated in {} ms", stopwatch.stop());
+        long totalDuration = stopwatch.stop();
+        LOGGER.debug("Test outcome reports generated in {} ms", totalDuration);
+        recordTimings(partitions, reportStartTime, totalDuration, maxPagesInFlight);
+
         if (errorTally.hasErrors()) {
             LOGGER.warn(errorTally.errorSummary());
             if (showThreaddumpOnReportTimeout()) {
@@ -82,7 +118,44 @@ class Reporter {
                 System.err.println(ThreadDump.forAllThreads());
             }
         }
+        return !errorTally.hasErrors();
+    }
 
+    private Future<Void> submit(ExecutorService executorPool,
+                                ReportExecutor partition,
+                                Semaphore pagesInFlight,
+                                AtomicLong lastCompletedPageTime) {
+        return executorPool.submit(() -> {
+            try {
+                return partition.call();
+            } finally {
+                lastCompletedPageTime.set(System.currentTimeMillis());
+                pagesInFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Pages waiting to be generated hold on to their test outcomes and report data,
+     * so only a limited number of pages are handed to the report threads at any one time.
+     */
+    private int maxPagesInFlight(int reportThreads) {
+        int defaultMaxPagesInFlight = reportThreads * 2;
+        return Math.max(1, REPORT_MAX_PAGES_IN_FLIGHT.integerFrom(environmentVariables, defaultMaxPagesInFlight));
+    }
+
+    private void recordTimings(List<ReportExecutor> partitions, long reportStartTime, long totalDuration, int maxPagesInFlight) {
+        if (outputDirectory == null || !outputDirectory.exists()) {
+            return;
+        }
+        List<ReportTaskTimings.ReportTaskTiming> timings = partitions.stream()
+                .map(partition -> partition.timingRelativeTo(reportStartTime))
+                .collect(Collectors.toList());
+        try {
+            new ReportTaskTimings(totalDuration, maxPagesInFlight, timings).saveTo(outputDirectory);
+        } catch (IOException e) {
+            LOGGER.warn("Could not record the report generation times: {}", e.getMessage());
+        }
     }
 
     private boolean showThreaddumpOnReportTimeout() {
@@ -144,18 +217,49 @@ class Reporter {
     }
     static class ReportExecutorFuture {
         private final Future<Void> future;
-        private final ReportingTask reportTask;
+        private final ReportExecutor reportExecutor;
 
-        ReportExecutorFuture(Future<Void> future, ReportingTask reportTask) {
+        ReportExecutorFuture(Future<Void> future, ReportExecutor reportExecutor) {
             this.future = future;
-            this.reportTask = reportTask;
+            this.reportExecutor = reportExecutor;
         }
 
         Future<Void> getFuture() { return future; }
 
+        /**
+         * The timeout applies to each report page from the moment it starts, rather than from when we start waiting for it,
+         * so a large page does not use up the time allowed for the pages queued behind it.
+         * A page that is still queued only times out if no other page has been completed within the timeout.
+         */
+        void awaitCompletionWithin(TimeoutValue timeout, AtomicLong lastCompletedPageTime)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long timeoutInMillis = timeout.getUnit().toMillis(timeout.getTimeout());
+            while (true) {
+                long remainingTime = timeoutInMillis - (System.currentTimeMillis() - timeoutMeasuredFrom(lastCompletedPageTime));
+                if (remainingTime <= 0) {
+                    throw new TimeoutException("Report page not generated within " + timeoutInMillis + " ms");
+                }
+                try {
+                    future.get(remainingTime, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException stillRunningOrQueued) {
+                    // Check again, as the page may have been started in the meantime
+                }
+            }
+        }
+
+        private long timeoutMeasuredFrom(AtomicLong lastCompletedPageTime) {
+            return reportExecutor.hasStarted() ? reportExecutor.getStartTimeInMillis() : lastCompletedPageTime.get();
+        }
+
+        void cancel() {
+            reportExecutor.markAsTimedOut();
+            future.cancel(true);
+        }
+
         @Override
         public String toString() {
-            return reportTask.toString();
+            return reportExecutor.getReportingTask().toString();
         }
     }
 }
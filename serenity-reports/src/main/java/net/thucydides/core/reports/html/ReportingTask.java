@@ -1,7 +1,39 @@
 package net.thucydides.core.reports.html;
 
+import net.thucydides.core.model.TestOutcome;
+
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 public interface ReportingTask {
     void generateReports() throws IOException;
+
+    /**
+     * The name of the report page generated by this task, if the page only depends on the test outcomes
+     * returned by getSourceOutcomes(). Tasks with no report name are always regenerated by incremental reporting.
+     */
+    default Optional<String> getReportName() {
+        return Optional.empty();
+    }
+
+    /**
+     * The test outcomes that appear in the report page generated by this task.
+     */
+    default List<? extends TestOutcome> getSourceOutcomes() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * A rough measure of how long this task will take, used to start the most expensive pages first.
+     * This is the number of outcomes on the page; tasks that do not say which outcomes they report on
+     * (such as the summary pages) are treated as the most expensive.
+     */
+    default int getEstimatedCost() {
+        if (!getReportName().isPresent()) {
+            return Integer.MAX_VALUE;
+        }
+        return getSourceOutcomes().size();
+    }
 }
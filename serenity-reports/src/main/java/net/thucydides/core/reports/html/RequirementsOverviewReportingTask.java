@@ -3,6 +3,7 @@ package net.thucydides.core.reports.html;
 import com.google.common.base.Objects;
 import net.serenitybdd.core.time.Stopwatch;
 import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.ReportOptions;
 import net.thucydides.core.tags.OutcomeTagFilter;
@@ -24,6 +25,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static net.serenitybdd.core.environment.ConfiguredEnvironment.getEnvironmentVariables;
@@ -167,6 +169,16 @@ class RequirementsOverviewReportingTask extends BaseReportingTask implements Rep
         }
     }
 
+    @Override
+    public Optional<String> getReportName() {
+        return Optional.of(reportName);
+    }
+
+    @Override
+    public List<? extends TestOutcome> getSourceOutcomes() {
+        return requirementsOutcomes.getTestOutcomes().getOutcomes();
+    }
+
     @Override
     public String toString() {
         return "Requirements report " + reportName;
@@ -1,13 +1,16 @@
 package net.thucydides.core.reports.html;
 
 import com.google.common.base.Objects;
+import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.util.EnvironmentVariables;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class ResultReportingTask extends BaseReportingTask implements ReportingTask {
 
@@ -54,6 +57,16 @@ public class ResultReportingTask extends BaseReportingTask implements ReportingT
         generateCSVReportFor(testOutcomes, csvReport);
     }
 
+    @Override
+    public Optional<String> getReportName() {
+        return Optional.of(reportName);
+    }
+
+    @Override
+    public List<? extends TestOutcome> getSourceOutcomes() {
+        return testOutcomes.getOutcomes();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
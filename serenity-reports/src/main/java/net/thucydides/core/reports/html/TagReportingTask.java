@@ -5,6 +5,7 @@ import com.google.common.base.Splitter;
 import net.serenitybdd.core.collect.NewList;
 import net.serenitybdd.core.time.Stopwatch;
 import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -109,6 +110,24 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
         return false;
     }
 
+    @Override
+    public Optional<String> getReportName() {
+        return Optional.of(reportName);
+    }
+
+    @Override
+    public List<? extends TestOutcome> getSourceOutcomes() {
+        return testOutcomes.withTag(tag).getOutcomes();
+    }
+
+    /**
+     * Read from the tag index, so that the tag pages can be queued without filtering the outcomes for each tag.
+     */
+    @Override
+    public int getEstimatedCost() {
+        return testOutcomes.estimatedCountWithTag(tag);
+    }
+
     @Override
     public String toString() {
         return "TagReportingTask for " + tag;
@@ -0,0 +1,115 @@
+package net.thucydides.core.reports
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class WhenStoringScreenshotsByContent extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    ScreenshotStore store
+    File storeDirectory
+
+    def setup() {
+        storeDirectory = temporaryFolder.newFolder("store")
+        store = new ScreenshotStore(storeDirectory.toPath())
+    }
+
+    def storedBlobs() {
+        Files.walk(storeDirectory.toPath().resolve("blobs")).filter { Files.isRegularFile(it) }.count()
+    }
+
+    def "identical screenshots from different report directories should be stored once"() {
+        given:
+            def sourceDirectory = temporaryFolder.newFolder("source")
+            new File(sourceDirectory, "screenshot1.png").bytes = "same image".bytes
+            new File(sourceDirectory, "screenshot2.png").bytes = "same image".bytes
+            new File(sourceDirectory, "outcome.json").text = "{}"
+            def firstReport = temporaryFolder.newFolder("report1")
+            def secondReport = temporaryFolder.newFolder("report2")
+        when:
+            CopyFiles.from(sourceDirectory).withScreenshotStore(Optional.of(store)).to(firstReport)
+            CopyFiles.from(sourceDirectory).withScreenshotStore(Optional.of(store)).to(secondReport)
+        then:
+            storedBlobs() == 1
+        and:
+            new File(firstReport, "screenshot1.png").bytes == "same image".bytes
+            new File(secondReport, "screenshot2.png").bytes == "same image".bytes
+            new File(secondReport, "outcome.json").text == "{}"
+    }
+
+    def "screenshots in a report directory can be replaced by links to the stored copies"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            new File(reportDirectory, "screenshot.png").bytes = "an image".bytes
+        when:
+            CopyFiles.from(reportDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        then:
+            storedBlobs() == 1
+            new File(reportDirectory, "screenshot.png").bytes == "an image".bytes
+    }
+
+    def "screenshots that have not changed since they were stored should not be read again"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            def screenshot = new File(reportDirectory, "screenshot.png")
+            screenshot.bytes = "an image".bytes
+            CopyFiles.from(reportDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+            def lastModified = Files.getLastModifiedTime(screenshot.toPath())
+        when: "the screenshot is replaced by a copy that looks unchanged (same size and modification time)"
+            screenshot.delete()
+            screenshot.bytes = "an IMAGE".bytes
+            Files.setLastModifiedTime(screenshot.toPath(), lastModified)
+            CopyFiles.from(reportDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        then: "it is not hashed and stored again"
+            storedBlobs() == 1
+    }
+
+    def "screenshots that have changed since they were stored should be stored again"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            def screenshot = new File(reportDirectory, "screenshot.png")
+            screenshot.bytes = "an image".bytes
+            CopyFiles.from(reportDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        when:
+            screenshot.delete()
+            screenshot.bytes = "a different image".bytes
+            CopyFiles.from(reportDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        then:
+            storedBlobs() == 2
+            screenshot.bytes == "a different image".bytes
+    }
+
+    def "screenshots that are no longer used by any report directory should be removed"() {
+        given:
+            def sourceDirectory = temporaryFolder.newFolder("source")
+            new File(sourceDirectory, "kept.png").bytes = "kept image".bytes
+            new File(sourceDirectory, "removed.png").bytes = "removed image".bytes
+            def reportDirectory = temporaryFolder.newFolder("report")
+            CopyFiles.from(sourceDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        when:
+            new File(reportDirectory, "removed.png").delete()
+            def result = store.collectGarbage()
+        then:
+            result.deletedBlobs == 1
+            result.keptBlobs == 1
+            storedBlobs() == 1
+    }
+
+    def "screenshots used by report directories that have been deleted should be removed"() {
+        given:
+            def sourceDirectory = temporaryFolder.newFolder("source")
+            new File(sourceDirectory, "screenshot.png").bytes = "an image".bytes
+            def reportDirectory = temporaryFolder.newFolder("report")
+            CopyFiles.from(sourceDirectory).withScreenshotStore(Optional.of(store)).to(reportDirectory)
+        when:
+            reportDirectory.deleteDir()
+            store.collectGarbage()
+        then:
+            storedBlobs() == 0
+    }
+}
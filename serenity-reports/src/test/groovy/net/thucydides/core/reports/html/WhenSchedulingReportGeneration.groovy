@@ -0,0 +1,88 @@
+package net.thucydides.core.reports.html
+
+import com.google.gson.JsonParser
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.reports.TestOutcomeLoader
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class WhenSchedulingReportGeneration extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    static class SamplePageTask implements ReportingTask {
+        final String name
+        final int outcomeCount
+        final boolean fails
+
+        SamplePageTask(String name, int outcomeCount, boolean fails = false) {
+            this.name = name
+            this.outcomeCount = outcomeCount
+            this.fails = fails
+        }
+
+        @Override
+        void generateReports() throws IOException {
+            if (fails) {
+                throw new IOException("Could not write " + name)
+            }
+        }
+
+        @Override
+        Optional<String> getReportName() {
+            return Optional.of(name)
+        }
+
+        @Override
+        List<? extends TestOutcome> getSourceOutcomes() {
+            return (1..outcomeCount).collect { TestOutcome.forTestInStory("test " + it, Story.called("a story")) }
+        }
+
+        @Override
+        String toString() {
+            return name
+        }
+    }
+
+    def "pages with the most test outcomes should be generated first"() {
+        given:
+            def tasks = [new SamplePageTask("small.html", 1),
+                         new SamplePageTask("large.html", 100),
+                         new SamplePageTask("medium.html", 10)]
+        when:
+            def scheduledTasks = Reporter.inSchedulingOrder(tasks).collect { it.reportingTask.reportName.get() }
+        then:
+            scheduledTasks == ["large.html", "medium.html", "small.html"]
+    }
+
+    def "tasks that do not describe their test outcomes should be generated before the other pages"() {
+        given:
+            def summaryTask = { -> } as ReportingTask
+            def tasks = [new SamplePageTask("page.html", 100), summaryTask]
+        when:
+            def scheduledTasks = Reporter.inSchedulingOrder(tasks).collect { it.reportingTask }
+        then:
+            scheduledTasks[0] == summaryTask
+    }
+
+    def "the time taken to generate each page should be recorded in the output directory"() {
+        given:
+            def outputDirectory = temporaryFolder.newFolder("output")
+            def tasks = [new SamplePageTask("page1.html", 1),
+                         new SamplePageTask("page2.html", 2),
+                         new SamplePageTask("broken.html", 3, true)]
+        when:
+            def allPagesGenerated = Reporter.generateReportsFor(tasks, outputDirectory)
+        then:
+            !allPagesGenerated
+        and:
+            def timings = new JsonParser().parse(new File(outputDirectory, TestOutcomeLoader.REPORT_TIMINGS_FILE).text).asJsonObject
+            def statuses = timings.getAsJsonArray("tasks").collectEntries {
+                [(it.asJsonObject.get("reportName").asString): it.asJsonObject.get("status").asString]
+            }
+            statuses == ["page1.html": "GENERATED", "page2.html": "GENERATED", "broken.html": "FAILED"]
+    }
+}
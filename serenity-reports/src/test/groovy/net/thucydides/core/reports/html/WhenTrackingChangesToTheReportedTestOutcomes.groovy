@@ -0,0 +1,98 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.reports.TestOutcomeLoader
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class WhenTrackingChangesToTheReportedTestOutcomes extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    File sourceDirectory
+    File outputDirectory
+
+    def outcome1 = TestOutcome.forTestInStory("test1", Story.called("a story"))
+    def outcome2 = TestOutcome.forTestInStory("test2", Story.called("a story"))
+
+    def setup() {
+        sourceDirectory = temporaryFolder.newFolder("source")
+        outputDirectory = temporaryFolder.newFolder("output")
+        writeOutcomeFile(outcome1, "first version")
+        writeOutcomeFile(outcome2, "first version")
+    }
+
+    def writeOutcomeFile(TestOutcome outcome, String contents) {
+        new File(sourceDirectory, outcome.getReportName() + ".json").text = contents
+    }
+
+    def "a page is up to date if none of its outcomes have changed"() {
+        given:
+            def previousManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            previousManifest.recordPage("page.html", [outcome1, outcome2])
+            previousManifest.saveTo(outputDirectory)
+        when:
+            def currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            currentManifest.recordPage("page.html", [outcome2, outcome1])
+        then:
+            currentManifest.pageIsUpToDateIn(ReportManifest.loadFrom(outputDirectory), "page.html")
+    }
+
+    def "a page is outdated if one of its outcomes has changed"() {
+        given:
+            def previousManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            previousManifest.recordPage("page.html", [outcome1, outcome2])
+            previousManifest.recordPage("other-page.html", [outcome1])
+        when:
+            writeOutcomeFile(outcome2, "second version")
+            def currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            currentManifest.recordPage("page.html", [outcome1, outcome2])
+            currentManifest.recordPage("other-page.html", [outcome1])
+        then:
+            !currentManifest.pageIsUpToDateIn(previousManifest, "page.html")
+        and:
+            currentManifest.pageIsUpToDateIn(previousManifest, "other-page.html")
+    }
+
+    def "a page is outdated if it contains different outcomes"() {
+        given:
+            def previousManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            previousManifest.recordPage("page.html", [outcome1])
+        when:
+            def currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            currentManifest.recordPage("page.html", [outcome1, outcome2])
+        then:
+            !currentManifest.pageIsUpToDateIn(previousManifest, "page.html")
+    }
+
+    def "every page is outdated if the report layout has changed"() {
+        given:
+            def previousManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            previousManifest.recordPage("page.html", [outcome1])
+        when:
+            def currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "new layout")
+            currentManifest.recordPage("page.html", [outcome1])
+        then:
+            !currentManifest.pageIsUpToDateIn(previousManifest, "page.html")
+    }
+
+    def "every page is outdated if there is no previous manifest"() {
+        when:
+            def currentManifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+            currentManifest.recordPage("page.html", [outcome1])
+        then:
+            !currentManifest.pageIsUpToDateIn(ReportManifest.loadFrom(outputDirectory), "page.html")
+    }
+
+    def "report timings written alongside the outcomes are not treated as outcomes"() {
+        given:
+            new File(sourceDirectory, TestOutcomeLoader.REPORT_TIMINGS_FILE).text = "{}"
+        when:
+            def manifest = ReportManifest.forOutcomeFilesIn(sourceDirectory, ".json", "layout")
+        then:
+            manifest.@outcomeDigests.keySet() == [outcome1.getReportName(), outcome2.getReportName()] as Set
+    }
+}
@@ -0,0 +1,69 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class WhenWritingReportPages extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    @Unroll
+    def "should write the page contents in UTF-8 (direct write: #directWrite)"() {
+        given:
+            environmentVariables.setProperty("report.page.direct.write", directWrite)
+            def pageWriter = ReportPageWriter.forEnvironment(environmentVariables)
+            def outputFile = temporaryFolder.newFile("page.html")
+        when:
+            pageWriter.write(outputFile.toPath(), { writer -> writer.write(contents) })
+        then:
+            new String(outputFile.bytes, StandardCharsets.UTF_8) == contents
+        where:
+            directWrite | contents
+            "false"     | "<html>Café – ☃</html>"
+            "true"      | "<html>Café – ☃</html>"
+            "true"      | "<p>Ünïcödé</p>\n" * 50000
+    }
+
+    def "the direct write should produce the same page as the buffered writer"() {
+        given:
+            def bufferedPage = temporaryFolder.newFile("buffered.html")
+            def directPage = temporaryFolder.newFile("direct.html")
+            def pageInManyFragments = { writer ->
+                writer.write("<html><body><table>")
+                (1..20000).each { row ->
+                    writer.write("<tr><td>Scenario ")
+                    writer.write(Integer.toString(row))
+                    writer.write(" – réussi</td></tr>\n")
+                }
+                writer.write("</table></body></html>")
+            }
+        when:
+            environmentVariables.setProperty("report.page.direct.write", "false")
+            ReportPageWriter.forEnvironment(environmentVariables).write(bufferedPage.toPath(), pageInManyFragments)
+            environmentVariables.setProperty("report.page.direct.write", "true")
+            ReportPageWriter.forEnvironment(environmentVariables).write(directPage.toPath(), pageInManyFragments)
+        then:
+            directPage.bytes == bufferedPage.bytes
+            bufferedPage.length() > 256 * 1024
+    }
+
+    def "should replace a previous version of the page"() {
+        given:
+            environmentVariables.setProperty("report.page.direct.write", "true")
+            def pageWriter = ReportPageWriter.forEnvironment(environmentVariables)
+            def outputFile = temporaryFolder.newFile("page.html")
+            outputFile.text = "a much longer previous version of the page"
+        when:
+            pageWriter.write(outputFile.toPath(), { writer -> writer.write("new page") })
+        then:
+            outputFile.text == "new page"
+    }
+}
@@ -22,11 +22,21 @@ import java.nio.charset.StandardCharsets;
 public class FieldsRecordingFilter implements Filter {
     private final LogDetail logDetail;
     private final boolean shouldPrettyPrint;
+    private final int maxBodySize;
     private String recorded = "";
 
     public FieldsRecordingFilter(final boolean shouldPrettyPrint, final LogDetail detail) {
+        this(shouldPrettyPrint, detail, 0);
+    }
+
+    /**
+     * @param maxBodySize request bodies longer than this are recorded without pretty-printing, and cut down to this size.
+     *                    Zero means that request bodies are always recorded in full.
+     */
+    public FieldsRecordingFilter(final boolean shouldPrettyPrint, final LogDetail detail, final int maxBodySize) {
         this.logDetail = detail;
         this.shouldPrettyPrint = shouldPrettyPrint;
+        this.maxBodySize = maxBodySize;
     }
 
     @Override
@@ -35,16 +45,13 @@ public class FieldsRecordingFilter implements Filter {
 
         try (ByteArrayOutputStream output = new ByteArrayOutputStream();
              PrintStream recordingStream = new PrintStream(output, true, StandardCharsets.UTF_8.toString())) {
+            final boolean largeBody = (logDetail == LogDetail.BODY) && bodyIsTooLargeIn(requestSpec);
             final RequestLoggingFilter filter = new RequestLoggingFilter(this.logDetail,
-                    shouldPrettyPrint, recordingStream);
+                    shouldPrettyPrint && !largeBody, recordingStream);
             final Response response = filter.filter(requestSpec, responseSpec, ctx);
             recordingStream.flush();
-            this.recorded = new String(output.toByteArray(), StandardCharsets.UTF_8);
-            this.recorded = this.recorded.replaceAll("^(" +
-                    "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
-                    ")\\s*\\n*", "");
-            this.recorded = this.recorded.replaceAll("^(<none>)", "");
-            this.recorded = this.recorded.replaceAll("\n$", "");
+            String recordedField = RecordedText.withoutLabelsIn(new String(output.toByteArray(), StandardCharsets.UTF_8));
+            this.recorded = largeBody ? RecordedText.limitedTo(maxBodySize, recordedField) : recordedField;
             return response;
         } catch (UnsupportedEncodingException e) {
             throw new RuntimeException("Incorrect implementation, should be used correct charset", e);
@@ -53,6 +60,17 @@ public class FieldsRecordingFilter implements Filter {
         }
     }
 
+    private boolean bodyIsTooLargeIn(final FilterableRequestSpecification requestSpec) {
+        if (maxBodySize <= 0) {
+            return false;
+        }
+        Object body = requestSpec.getBody();
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length > maxBodySize;
+        }
+        return (body != null) && RecordedText.isLargerThan(maxBodySize, body.toString());
+    }
+
     public LogDetail logDetail() {
         return this.logDetail;
     }
@@ -0,0 +1,41 @@
+package net.serenitybdd.rest.filters;
+
+import java.util.regex.Pattern;
+
+/**
+ * Tidies up the text printed by the RestAssured request and response loggers before it is recorded in the reports.
+ * The patterns are compiled once, rather than each time a field of a request or response is recorded.
+ */
+public class RecordedText {
+
+    private static final Pattern FIELD_LABEL = Pattern.compile("^(" +
+            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
+            ")\\s*\\n*");
+    private static final Pattern NO_VALUE = Pattern.compile("^(<none>)");
+    private static final Pattern TRAILING_NEW_LINE = Pattern.compile("\n$");
+
+    /**
+     * Remove the field label, any "none" placeholder, and the trailing new line from a logged request or response field.
+     */
+    public static String withoutLabelsIn(String recorded) {
+        String withoutLabel = FIELD_LABEL.matcher(recorded).replaceAll("");
+        String withoutPlaceholder = NO_VALUE.matcher(withoutLabel).replaceAll("");
+        return TRAILING_NEW_LINE.matcher(withoutPlaceholder).replaceAll("");
+    }
+
+    /**
+     * Cut a request or response body down to the maximum recorded size, noting how much was left out.
+     * A maximum size of zero or less means that bodies are recorded in full.
+     */
+    public static String limitedTo(int maxSize, String body) {
+        if (!isLargerThan(maxSize, body)) {
+            return body;
+        }
+        return body.substring(0, maxSize) + System.lineSeparator()
+                + "... (" + (body.length() - maxSize) + " more characters not recorded)";
+    }
+
+    public static boolean isLargerThan(int maxSize, String body) {
+        return maxSize > 0 && body != null && body.length() > maxSize;
+    }
+}
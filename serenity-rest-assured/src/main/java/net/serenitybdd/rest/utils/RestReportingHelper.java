@@ -12,14 +12,19 @@ import net.serenitybdd.core.rest.RestQuery;
 import net.serenitybdd.rest.RestStepListener;
 import net.serenitybdd.rest.decorators.request.RequestSpecificationDecorated;
 import net.serenitybdd.rest.filters.FieldsRecordingFilter;
+import net.serenitybdd.rest.filters.RecordedText;
+import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.steps.ExecutedStepDescription;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.steps.StepFailure;
+import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REST_MAX_BODY_SIZE;
 import static net.thucydides.core.steps.StepEventBus.getEventBus;
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
 
@@ -31,8 +36,19 @@ import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
  */
 public class RestReportingHelper {
 
+    private final int maxBodySize;
+
     public RestReportingHelper() {
         getEventBus().registerListener(new RestStepListener());
+        this.maxBodySize = maxRecordedBodySize();
+    }
+
+    /**
+     * The longest request or response body that is recorded in full (see serenity.rest.max.body.size).
+     */
+    public static int maxRecordedBodySize() {
+        EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+        return SERENITY_REST_MAX_BODY_SIZE.integerFrom(environmentVariables, 0);
     }
 
     private static boolean shouldRecordResponseBodyFor(Response result) {
@@ -51,7 +67,7 @@ public class RestReportingHelper {
             }
         }
         final RestQuery query = RestQuery.
-                withMethod(method).andPath(ObjectUtils.firstNonNull(values.get(LogDetail.URI).replaceFirst("^Request URI:\t", ""), "")).
+                withMethod(method).andPath(ObjectUtils.firstNonNull(StringUtils.removeStart(values.get(LogDetail.URI), "Request URI:\t"), "")).
                 withContentType(String.valueOf(
                                 ContentType.fromContentType(spec.getContentType()))
                 ).
@@ -69,10 +85,7 @@ public class RestReportingHelper {
                 LogDetail.HEADERS, LogDetail.COOKIES);
         final Map<LogDetail, String> values = helper.print(response);
         if (shouldRecordResponseBodyFor(response)) {
-            String renderedBody = new Prettifier().getPrettifiedBodyIfPossible(
-                    (ResponseOptions) response.getBody(), response.getBody());
-
-            restQuery = restQuery.withResponse(renderedBody.isEmpty() ? response.asString() : renderedBody);
+            restQuery = restQuery.withResponse(recordedBodyOf(response));
         }
         restQuery = restQuery.withStatusCode(response.getStatusCode())
                 .withResponseHeaders(firstNonNull(values.get(LogDetail.HEADERS), ""))
@@ -80,6 +93,19 @@ public class RestReportingHelper {
         getEventBus().getBaseStepListener().recordRestQuery(restQuery);
     }
 
+    /**
+     * Bodies larger than the maximum recorded size are not pretty-printed, since they will be cut down anyway.
+     */
+    private String recordedBodyOf(final Response response) {
+        String body = response.asString();
+        if (RecordedText.isLargerThan(maxBodySize, body)) {
+            return RecordedText.limitedTo(maxBodySize, body);
+        }
+        String renderedBody = new Prettifier().getPrettifiedBodyIfPossible(
+                (ResponseOptions) response.getBody(), response.getBody());
+        return renderedBody.isEmpty() ? body : renderedBody;
+    }
+
     public void registerCall(final RestMethod method, final RequestSpecificationDecorated spec, final String path,
                              final RuntimeException throwable, final Object... params) {
         RestQuery restQuery = recordRestSpecificationData(method, spec, path, params);
@@ -3,6 +3,7 @@ package net.serenitybdd.rest.utils;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.internal.print.ResponsePrinter;
 import io.restassured.response.Response;
+import net.serenitybdd.rest.filters.RecordedText;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -38,13 +39,8 @@ public class RestResponseRecordingHelper {
                         //can be thrown if some field like cookies or headers are empty
                     }
                     recordingStream.flush();
-                    String recorded = new String(output.toByteArray(), StandardCharsets.UTF_8);
+                    String recorded = RecordedText.withoutLabelsIn(new String(output.toByteArray(), StandardCharsets.UTF_8));
                     output.reset();
-                    recorded = recorded.replaceAll("^(" +
-                            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
-                            ")\\s*\\n*", "");
-                    recorded = recorded.replaceAll("^(<none>)", "");
-                    recorded = recorded.replaceAll("\n$", "");
                     result.put(detail, recorded);
 
                 }
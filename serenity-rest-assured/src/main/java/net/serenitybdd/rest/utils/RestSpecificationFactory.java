@@ -89,8 +89,9 @@ public class RestSpecificationFactory {
     public static RequestSpecificationDecorated getInstrumentedRequestSpecification(RequestSpecificationImpl delegate) {
         RequestSpecificationDecorated instrumentedResponse  = requestSpecificationDecoratedFactory.create((delegate));
         final List<Filter> filters = new LinkedList<>();
-        for (final LogDetail logDetail : Arrays.asList(HEADERS, COOKIES, BODY, PARAMS, METHOD, URI)) {
-            filters.add(new FieldsRecordingFilter(true, logDetail));
+        int maxBodySize = RestReportingHelper.maxRecordedBodySize();
+        for (final LogDetail logDetail : Arrays.asList(HEADERS, COOKIES, BODY, URI)) {
+            filters.add(new FieldsRecordingFilter(true, logDetail, maxBodySize));
         }
         if (RestExecutionHelper.restCallsAreDisabled()) {
             filters.add(new UpdatingContextFilter(SendRequestFilter.class));
@@ -0,0 +1,32 @@
+package net.serenitybdd.rest.filters
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class WhenTidyingRecordedRestFields extends Specification {
+
+    @Unroll
+    def "should remove the field labels from '#logged'"() {
+        expect:
+            RecordedText.withoutLabelsIn(logged) == recorded
+        where:
+            logged                              | recorded
+            "Headers:\t\tAccept=*/*\n"          | "Accept=*/*"
+            "Cookies:\t\t<none>\n"              | ""
+            "Body:\n{\"a\": 1}\n"               | "{\"a\": 1}"
+            "Request URI:\thttp://localhost/a\n" | "Request URI:\thttp://localhost/a"
+    }
+
+    def "should cut large bodies down to the maximum size"() {
+        expect:
+            RecordedText.limitedTo(5, "0123456789").startsWith("01234")
+            RecordedText.limitedTo(5, "0123456789").endsWith("(5 more characters not recorded)")
+    }
+
+    def "should record bodies in full when no maximum size is set"() {
+        expect:
+            RecordedText.limitedTo(0, "0123456789") == "0123456789"
+            RecordedText.limitedTo(10, "0123456789") == "0123456789"
+            !RecordedText.isLargerThan(0, "0123456789")
+    }
+}
@@ -4,17 +4,16 @@ import net.serenitybdd.core.PendingStepException;
 import net.serenitybdd.core.Serenity;
 import net.serenitybdd.core.SkipNested;
 import net.serenitybdd.core.eventbus.Broadcaster;
+import net.serenitybdd.core.steps.SilentSteps;
 import net.serenitybdd.markers.IsHidden;
 import net.serenitybdd.screenplay.events.*;
 import net.serenitybdd.screenplay.exceptions.IgnoreStepException;
 import net.serenitybdd.screenplay.facts.Fact;
 import net.serenitybdd.screenplay.facts.FactLifecycleListener;
-import net.thucydides.core.annotations.Pending;
 import net.thucydides.core.steps.ExecutedStepDescription;
 import net.thucydides.core.steps.StepEventBus;
 import org.openqa.selenium.Keys;
 
-import java.lang.reflect.Method;
 import java.util.*;
 
 import static net.serenitybdd.screenplay.SilentTasks.isNestedInSilentTask;
@@ -191,7 +190,12 @@ public class Actor implements PerformsTasks, SkipNested {
     }
 
     private <T extends Performable> void performSilently(T todo) {
-        perform(todo);
+        SilentSteps.begin();
+        try {
+            perform(todo);
+        } finally {
+            SilentSteps.end();
+        }
     }
 
     private <T extends Performable> void performWithoutReporting(T todo) {
@@ -239,17 +243,7 @@ public class Actor implements PerformsTasks, SkipNested {
     }
 
     private <T extends Performable> boolean isPending(T todo) {
-            Method performAs = getPerformAsForClass(todo.getClass().getSuperclass()).orElse(getPerformAsForClass(todo.getClass()).orElse(null));
-
-            return (performAs != null) && (performAs.getAnnotation(Pending.class) != null);
-    }
-
-    private Optional<Method> getPerformAsForClass(Class taskClass) {
-        try {
-            return Optional.of(taskClass.getMethod("performAs", Actor.class));
-        } catch (NoSuchMethodException e) {
-            return Optional.empty();
-        }
+        return PerformableMetadata.forClass(todo.getClass()).isPending();
     }
 
     private boolean pendingOrIgnore(Throwable exception) {
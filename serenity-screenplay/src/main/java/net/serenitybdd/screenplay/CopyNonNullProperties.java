@@ -1,11 +1,49 @@
 package net.serenitybdd.screenplay;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.util.*;
+import java.util.stream.Stream;
 
 class CopyNonNullProperties {
     private Object source;
 
+    /**
+     * The fields to copy from each class of task, made accessible once.
+     */
+    private static final ClassValue<List<Field>> SOURCE_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> sourceClass) {
+            List<Field> fields = new ArrayList<>();
+            Stream.concat(Arrays.stream(sourceClass.getDeclaredFields()), Arrays.stream(sourceClass.getFields()))
+                  .forEach(field -> {
+                      field.setAccessible(true);
+                      fields.add(field);
+                  });
+            return Collections.unmodifiableList(fields);
+        }
+    };
+
+    /**
+     * The fields that can be set on each class of instrumented task, by name. Fields declared in the task class itself
+     * take precedence over inherited public fields.
+     */
+    private static final ClassValue<Map<String, Field>> TARGET_FIELDS = new ClassValue<Map<String, Field>>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> targetClass) {
+            Map<String, Field> fields = new HashMap<>();
+            Class<?> performableClass = targetClass.getSuperclass();
+            for (Field field : performableClass.getDeclaredFields()) {
+                field.setAccessible(true);
+                fields.putIfAbsent(field.getName(), field);
+            }
+            for (Field field : performableClass.getFields()) {
+                field.setAccessible(true);
+                fields.putIfAbsent(field.getName(), field);
+            }
+            return Collections.unmodifiableMap(fields);
+        }
+    };
+
     public CopyNonNullProperties(Object source) {
         this.source = source;
     }
@@ -15,24 +53,18 @@ class CopyNonNullProperties {
     }
 
     public void to(Object target) {
-        Arrays.stream(source.getClass().getDeclaredFields()).forEach(
-                field -> copyFieldValue(field, source, target)
-        );
-        Arrays.stream(source.getClass().getFields()).forEach(
+        SOURCE_FIELDS.get(source.getClass()).forEach(
                 field -> copyFieldValue(field, source, target)
         );
     }
 
     private void copyFieldValue(Field field, Object source, Object target) {
         try {
-            field.setAccessible(true);
             Object sourceValue = field.get(source);
             if (sourceValue == null) { return; }
 
-            Field targetField = null;
-            targetField = targetField(target, field.getName());
+            Field targetField = targetField(target, field.getName());
 
-            targetField.setAccessible(true);
             targetField.set(target, sourceValue);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new IllegalArgumentException(e);
@@ -40,10 +72,10 @@ class CopyNonNullProperties {
     }
 
     private Field targetField(Object target, String name) throws NoSuchFieldException {
-        Class performableClass = target.getClass().getSuperclass();
-        if (Arrays.stream(performableClass.getDeclaredFields()).anyMatch(field -> field.getName().equals(name))) {
-            return performableClass.getDeclaredField(name);
+        Field targetField = TARGET_FIELDS.get(target.getClass()).get(name);
+        if (targetField == null) {
+            throw new NoSuchFieldException(name);
         }
-        return performableClass.getField(name);
+        return targetField;
     }
 }
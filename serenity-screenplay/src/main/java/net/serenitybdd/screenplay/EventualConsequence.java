@@ -3,16 +3,17 @@ package net.serenitybdd.screenplay;
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
 import net.serenitybdd.core.time.Stopwatch;
 import net.serenitybdd.markers.CanBeSilent;
+import net.serenitybdd.screenplay.waits.PollingStrategy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
-    public static final int A_SHORT_PERIOD_BETWEEN_TRIES = 100;
     private final Consequence<T> consequenceThatMightTakeSomeTime;
     private final long timeoutInMilliseconds;
     private final boolean isSilent;
+    private final PollingStrategy pollingStrategy;
 
     private AssertionError caughtAssertionError = null;
     private RuntimeException caughtRuntimeException = null;
@@ -23,9 +24,18 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     }
 
     public EventualConsequence(Consequence<T> consequenceThatMightTakeSomeTime, long timeoutInMilliseconds, boolean isSilent) {
+        this(consequenceThatMightTakeSomeTime, timeoutInMilliseconds, isSilent,
+             PollingStrategy.configuredIn(ConfiguredEnvironment.getEnvironmentVariables()));
+    }
+
+    public EventualConsequence(Consequence<T> consequenceThatMightTakeSomeTime,
+                               long timeoutInMilliseconds,
+                               boolean isSilent,
+                               PollingStrategy pollingStrategy) {
         this.consequenceThatMightTakeSomeTime = consequenceThatMightTakeSomeTime;
         this.timeoutInMilliseconds = timeoutInMilliseconds;
         this.isSilent = isSilent;
+        this.pollingStrategy = pollingStrategy;
     }
 
     public EventualConsequence(Consequence<T> consequenceThatMightTakeSomeTime) {
@@ -38,12 +48,24 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     }
 
     public EventualConsequenceBuilder<T> waitingForNoLongerThan(long amount) {
-        return new EventualConsequenceBuilder<>(consequenceThatMightTakeSomeTime, amount);
+        return new EventualConsequenceBuilder<>(consequenceThatMightTakeSomeTime, amount, isSilent, pollingStrategy,
+                                                exceptionsToIgnore);
+    }
+
+    /**
+     * Use a different polling strategy (see PollingStrategy) than the one configured for the project.
+     */
+    public EventualConsequence<T> polling(PollingStrategy pollingStrategy) {
+        EventualConsequence<T> eventualConsequence
+                = new EventualConsequence<T>(consequenceThatMightTakeSomeTime, timeoutInMilliseconds, isSilent, pollingStrategy);
+        eventualConsequence.exceptionsToIgnore = exceptionsToIgnore;
+        return eventualConsequence;
     }
 
     @Override
     public void evaluateFor(Actor actor) {
         Stopwatch stopwatch = new Stopwatch();
+        int attempt = 0;
 
         stopwatch.start();
         do {
@@ -63,8 +85,9 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
                     throw exception;
                 }
             }
-            pauseBeforeNextAttempt();
-        } while (stopwatch.lapTime() < timeoutInMilliseconds);
+            attempt++;
+            pauseBeforeNextAttempt(attempt, timeoutInMilliseconds - stopwatch.lapTime());
+        } while (stopwatch.lapTime() < timeoutInMilliseconds && !Thread.currentThread().isInterrupted());
 
         throwAnyCaughtErrors();
     }
@@ -73,11 +96,18 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
         return exceptionsToIgnore.contains(exception.getClass());
     }
 
-    private void pauseBeforeNextAttempt() {
+    /**
+     * If the thread is interrupted while pausing, it keeps its interrupted status so that polling stops.
+     */
+    private void pauseBeforeNextAttempt(int attempt, long timeRemaining) {
+        long pause = Math.min(pollingStrategy.delayAfterAttempt(attempt), timeRemaining);
+        if (pause <= 0) {
+            return;
+        }
         try {
-            Thread.sleep(A_SHORT_PERIOD_BETWEEN_TRIES);
+            Thread.sleep(pause);
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -98,10 +128,10 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     @Override
     public Consequence<T> orComplainWith(Class<? extends Error> complaintType) {
         return new EventualConsequence(consequenceThatMightTakeSomeTime.orComplainWith(complaintType),
-            timeoutInMilliseconds, isSilent);
+            timeoutInMilliseconds, isSilent, pollingStrategy);
     }
 
-    public Consequence<T> ignoringExceptions(Class<? extends Throwable>... exceptionsToIgnore) {
+    public EventualConsequence<T> ignoringExceptions(Class<? extends Throwable>... exceptionsToIgnore) {
         this.exceptionsToIgnore = Arrays.asList(exceptionsToIgnore);
         return this;
     }
@@ -109,19 +139,19 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     @Override
     public Consequence<T> orComplainWith(Class<? extends Error> complaintType, String complaintDetails) {
         return new EventualConsequence(consequenceThatMightTakeSomeTime.orComplainWith(complaintType,
-            complaintDetails), timeoutInMilliseconds, isSilent);
+            complaintDetails), timeoutInMilliseconds, isSilent, pollingStrategy);
     }
 
     @Override
     public Consequence<T> whenAttemptingTo(Performable performable) {
         return new EventualConsequence<T>(consequenceThatMightTakeSomeTime.whenAttemptingTo(performable),
-            timeoutInMilliseconds, isSilent);
+            timeoutInMilliseconds, isSilent, pollingStrategy);
     }
 
     @Override
     public Consequence<T> because(String explanation) {
         return new EventualConsequence<T>(consequenceThatMightTakeSomeTime.because(explanation),
-            timeoutInMilliseconds, isSilent);
+            timeoutInMilliseconds, isSilent, pollingStrategy);
     }
 
     @Override
@@ -130,6 +160,6 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     }
 
     public EventualConsequence<T>  withNoReporting() {
-        return new EventualConsequence<T>(consequenceThatMightTakeSomeTime, timeoutInMilliseconds, true);
+        return new EventualConsequence<T>(consequenceThatMightTakeSomeTime, timeoutInMilliseconds, true, pollingStrategy);
     }
 }
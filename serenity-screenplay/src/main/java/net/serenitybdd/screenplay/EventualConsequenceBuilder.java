@@ -1,19 +1,46 @@
 package net.serenitybdd.screenplay;
 
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.serenitybdd.screenplay.waits.PollingStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class EventualConsequenceBuilder<T> {
     private final Consequence<T> consequence;
     private final long amount;
+    private final boolean isSilent;
+    private final PollingStrategy pollingStrategy;
+    private final List<Class<? extends Throwable>> exceptionsToIgnore;
 
     public <T> EventualConsequenceBuilder(Consequence consequence, long amount) {
+        this(consequence, amount, false,
+             PollingStrategy.configuredIn(ConfiguredEnvironment.getEnvironmentVariables()), new ArrayList<>());
+    }
+
+    EventualConsequenceBuilder(Consequence<T> consequence,
+                               long amount,
+                               boolean isSilent,
+                               PollingStrategy pollingStrategy,
+                               List<Class<? extends Throwable>> exceptionsToIgnore) {
         this.consequence = consequence;
         this.amount = amount;
+        this.isSilent = isSilent;
+        this.pollingStrategy = pollingStrategy;
+        this.exceptionsToIgnore = exceptionsToIgnore;
     }
 
     public EventualConsequence<T> milliseconds() {
-        return new EventualConsequence<T>(consequence, amount);
+        return eventualConsequenceWaitingFor(amount);
     }
 
     public EventualConsequence<T> seconds() {
-        return new EventualConsequence<T>(consequence, amount * 1000);
+        return eventualConsequenceWaitingFor(amount * 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventualConsequence<T> eventualConsequenceWaitingFor(long timeoutInMilliseconds) {
+        return new EventualConsequence<T>(consequence, timeoutInMilliseconds, isSilent, pollingStrategy)
+                .ignoringExceptions(exceptionsToIgnore.toArray(new Class[0]));
     }
 }
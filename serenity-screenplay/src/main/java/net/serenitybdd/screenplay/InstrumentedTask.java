@@ -5,14 +5,6 @@ import net.serenitybdd.core.steps.Instrumented;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.util.EnvironmentVariables;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-
-import static java.util.Arrays.stream;
 import static net.thucydides.core.ThucydidesSystemProperty.MANUAL_TASK_INSTRUMENTATION;
 
 public class InstrumentedTask {
@@ -26,36 +18,13 @@ public class InstrumentedTask {
 
     public static <T extends Performable> boolean shouldInstrument(T task) {
 
-        EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
-
-        if (task.getClass().isAnonymousClass()) {
+        if (!PerformableMetadata.forClass(task.getClass()).isInstrumentable()) {
             return false;
         }
 
-        if (MANUAL_TASK_INSTRUMENTATION.booleanFrom(environmentVariables, false)) {
-            return false;
-        }
-
-        Optional<Method> performAs = stream(task.getClass().getMethods())
-                .filter(method -> method.getName().equals("performAs"))
-                .findFirst();
-
-        return performAs.isPresent() && defaultConstructorPresentFor(task.getClass());
-    }
-
-    private static boolean defaultConstructorPresentFor(Class<? extends Performable> taskClass) {
-
-        return findAllConstructorsIn(taskClass).stream()
-                         .anyMatch( constructor -> constructor.getParameterCount() == 0 );
-    }
-
-    private static List<Constructor<?>> findAllConstructorsIn(Class<? extends Performable> taskClass) {
-        List<Constructor<?>> allConstructors = new ArrayList<>();
-
-        allConstructors.addAll(Arrays.asList(taskClass.getConstructors()));
-        allConstructors.addAll(Arrays.asList(taskClass.getDeclaredConstructors()));
+        EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
 
-        return allConstructors;
+        return !MANUAL_TASK_INSTRUMENTATION.booleanFrom(environmentVariables, false);
     }
 
     private static Performable instrumentedCopyOf(Performable task, Class taskClass) {
@@ -74,6 +43,6 @@ public class InstrumentedTask {
     }
 
     public static boolean isInstrumented(Performable task) {
-        return task.getClass().getSimpleName().contains("EnhancerByCGLIB");
+        return PerformableMetadata.forClass(task.getClass()).isInstrumented();
     }
 }
@@ -0,0 +1,88 @@
+package net.serenitybdd.screenplay;
+
+import net.thucydides.core.annotations.Pending;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * What an actor needs to know about a class of Performable before performing it, found by reflection once for each class
+ * rather than each time a task of that class is performed.
+ */
+class PerformableMetadata {
+
+    private static final ClassValue<PerformableMetadata> METADATA = new ClassValue<PerformableMetadata>() {
+        @Override
+        protected PerformableMetadata computeValue(Class<?> performableClass) {
+            return new PerformableMetadata(performableClass);
+        }
+    };
+
+    private final boolean instrumented;
+    private final boolean instrumentable;
+    private final boolean pending;
+
+    private PerformableMetadata(Class<?> performableClass) {
+        this.instrumented = performableClass.getSimpleName().contains("EnhancerByCGLIB");
+        this.instrumentable = !performableClass.isAnonymousClass()
+                && hasAPerformAsMethod(performableClass)
+                && defaultConstructorPresentFor(performableClass);
+        this.pending = isPending(performableClass);
+    }
+
+    static PerformableMetadata forClass(Class<?> performableClass) {
+        return METADATA.get(performableClass);
+    }
+
+    /**
+     * Is this class an instrumented (CGLIB) subclass of a task class?
+     */
+    boolean isInstrumented() {
+        return instrumented;
+    }
+
+    /**
+     * Can an instrumented copy of a task of this class be created, so that the task is reported as a step?
+     */
+    boolean isInstrumentable() {
+        return instrumentable;
+    }
+
+    /**
+     * Is the performAs() method of this class (or of the task class it instruments) annotated with @Pending?
+     */
+    boolean isPending() {
+        return pending;
+    }
+
+    private static boolean hasAPerformAsMethod(Class<?> performableClass) {
+        return Stream.of(performableClass.getMethods()).anyMatch(method -> method.getName().equals("performAs"));
+    }
+
+    private static boolean defaultConstructorPresentFor(Class<?> performableClass) {
+        return Stream.concat(Arrays.stream(performableClass.getConstructors()),
+                             Arrays.stream(performableClass.getDeclaredConstructors()))
+                     .anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+
+    private static boolean isPending(Class<?> performableClass) {
+        Optional<Method> performAs = performAsMethodOf(performableClass.getSuperclass());
+        if (!performAs.isPresent()) {
+            performAs = performAsMethodOf(performableClass);
+        }
+        return performAs.map(method -> method.getAnnotation(Pending.class) != null).orElse(false);
+    }
+
+    private static Optional<Method> performAsMethodOf(Class<?> performableClass) {
+        if (performableClass == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(performableClass.getMethod("performAs", Actor.class));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+}
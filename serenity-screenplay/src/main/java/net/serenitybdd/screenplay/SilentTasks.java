@@ -1,10 +1,9 @@
 package net.serenitybdd.screenplay;
 
+import net.serenitybdd.core.steps.SilentSteps;
 import net.serenitybdd.markers.CanBeSilent;
 import net.serenitybdd.markers.IsSilent;
 
-import static java.util.Arrays.asList;
-
 public class SilentTasks {
     public static boolean isSilent(Performable task) {
         if (task instanceof IsSilent) {
@@ -18,8 +17,6 @@ public class SilentTasks {
     }
 
     public static boolean isNestedInSilentTask() {
-        return asList(new Exception().getStackTrace())
-                .stream()
-                .anyMatch(element -> element.getMethodName().equals("performSilently"));
+        return SilentSteps.areInProgress();
     }
 }
@@ -0,0 +1,36 @@
+package net.serenitybdd.screenplay.waits;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with "equal jitter": each delay is somewhere between half and all of the backed-off interval,
+ * so actors that started waiting at the same time drift apart rather than polling in lock-step.
+ */
+class BackoffPolling implements PollingStrategy {
+
+    private final long initialInterval;
+    private final long maxInterval;
+
+    BackoffPolling(long initialInterval, long maxInterval) {
+        this.initialInterval = Math.max(initialInterval, 1);
+        this.maxInterval = Math.max(maxInterval, this.initialInterval);
+    }
+
+    @Override
+    public long delayAfterAttempt(int attempt) {
+        long interval = backedOffInterval(attempt);
+        long half = interval / 2;
+        return half + ThreadLocalRandom.current().nextLong(interval - half + 1);
+    }
+
+    private long backedOffInterval(int attempt) {
+        int doublings = Math.min(Math.max(attempt - 1, 0), 30);
+        long interval = initialInterval << doublings;
+        return (interval <= 0 || interval > maxInterval) ? maxInterval : interval;
+    }
+
+    @Override
+    public String toString() {
+        return "backoff polling from " + initialInterval + " ms up to " + maxInterval + " ms";
+    }
+}
@@ -0,0 +1,20 @@
+package net.serenitybdd.screenplay.waits;
+
+class FixedPolling implements PollingStrategy {
+
+    private final long interval;
+
+    FixedPolling(long interval) {
+        this.interval = Math.max(interval, 0);
+    }
+
+    @Override
+    public long delayAfterAttempt(int attempt) {
+        return interval;
+    }
+
+    @Override
+    public String toString() {
+        return "fixed polling every " + interval + " ms";
+    }
+}
@@ -0,0 +1,45 @@
+package net.serenitybdd.screenplay.waits;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SCREENPLAY_POLLING_INTERVAL;
+import static net.thucydides.core.ThucydidesSystemProperty.SCREENPLAY_POLLING_MAX_INTERVAL;
+import static net.thucydides.core.ThucydidesSystemProperty.SCREENPLAY_POLLING_STRATEGY;
+
+/**
+ * How long an actor waits between attempts when waiting for something to happen.
+ */
+public interface PollingStrategy {
+
+    long DEFAULT_INTERVAL = 100;
+    long DEFAULT_MAX_INTERVAL = 1000;
+
+    /**
+     * The time in milliseconds to wait after the given number of failed attempts (starting at 1).
+     */
+    long delayAfterAttempt(int attempt);
+
+    /**
+     * Wait the same time between each attempt.
+     */
+    static PollingStrategy fixed(long intervalInMilliseconds) {
+        return new FixedPolling(intervalInMilliseconds);
+    }
+
+    /**
+     * Double the time between attempts after each failed attempt, up to a maximum, with some random jitter.
+     */
+    static PollingStrategy backoff(long initialIntervalInMilliseconds, long maxIntervalInMilliseconds) {
+        return new BackoffPolling(initialIntervalInMilliseconds, maxIntervalInMilliseconds);
+    }
+
+    static PollingStrategy configuredIn(EnvironmentVariables environmentVariables) {
+        long interval = SCREENPLAY_POLLING_INTERVAL.integerFrom(environmentVariables, (int) DEFAULT_INTERVAL);
+        long maxInterval = SCREENPLAY_POLLING_MAX_INTERVAL.integerFrom(environmentVariables, (int) DEFAULT_MAX_INTERVAL);
+
+        if ("backoff".equalsIgnoreCase(SCREENPLAY_POLLING_STRATEGY.from(environmentVariables, "fixed").trim())) {
+            return backoff(interval, maxInterval);
+        }
+        return fixed(interval);
+    }
+}
@@ -0,0 +1,44 @@
+package net.serenitybdd.screenplay
+
+import net.thucydides.core.annotations.Pending
+import spock.lang.Specification
+
+class WhenCachingPerformableMetadata extends Specification {
+
+    static class PlantsATree implements Performable {
+        @Pending
+        @Override
+        <T extends Actor> void performAs(T actor) {}
+    }
+
+    def "tasks with a performAs method and a default constructor can be instrumented"() {
+        expect:
+            PerformableMetadata.forClass(EatsAPeach).isInstrumentable()
+    }
+
+    def "tasks without a default constructor cannot be instrumented"() {
+        expect:
+            !PerformableMetadata.forClass(EatsARockmelon).isInstrumentable()
+    }
+
+    def "tasks with a pending performAs method should be recognised as pending"() {
+        expect:
+            PerformableMetadata.forClass(PlantsATree).isPending()
+            !PerformableMetadata.forClass(EatsAPeach).isPending()
+    }
+
+    def "metadata should only be worked out once for each class"() {
+        expect:
+            PerformableMetadata.forClass(EatsAPeach).is(PerformableMetadata.forClass(EatsAPeach))
+    }
+
+    def "instrumented copies should keep the non-null fields of the original task"() {
+        given:
+            def task = EatsAPeach.loudly()
+        when:
+            def instrumentedTask = InstrumentedTask.of(task)
+        then:
+            InstrumentedTask.isInstrumented(instrumentedTask)
+            instrumentedTask.fruit == "peach"
+    }
+}
@@ -0,0 +1,149 @@
+package net.serenitybdd.screenplay
+
+import net.serenitybdd.screenplay.waits.PollingStrategy
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+class WhenPollingWhileWaiting extends Specification {
+
+    def "fixed polling should wait the same time between each attempt"() {
+        given:
+            def polling = PollingStrategy.fixed(100)
+        expect:
+            (1..5).collect { polling.delayAfterAttempt(it) } == [100, 100, 100, 100, 100]
+    }
+
+    def "backoff polling should double the interval up to a maximum, with jitter"() {
+        given:
+            def polling = PollingStrategy.backoff(100, 1000)
+        expect:
+            polling.delayAfterAttempt(1) in 50..100
+            polling.delayAfterAttempt(2) in 100..200
+            polling.delayAfterAttempt(3) in 200..400
+            polling.delayAfterAttempt(10) in 500..1000
+            polling.delayAfterAttempt(1000) in 500..1000
+    }
+
+    def "the polling strategy can be configured"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            environmentVariables.setProperty("screenplay.polling.strategy", "backoff")
+            environmentVariables.setProperty("screenplay.polling.interval", "20")
+            environmentVariables.setProperty("screenplay.polling.max.interval", "40")
+        when:
+            def polling = PollingStrategy.configuredIn(environmentVariables)
+        then:
+            polling.delayAfterAttempt(5) in 20..40
+    }
+
+    def "fixed polling every 100 ms is used by default"() {
+        expect:
+            PollingStrategy.configuredIn(new MockEnvironmentVariables()).delayAfterAttempt(3) == 100
+    }
+
+    def "polling should stop when the waiting thread is interrupted"() {
+        given:
+            def consequence = new SucceedsOnTheThirdAttempt()
+            Thread.currentThread().interrupt()
+        when:
+            new EventualConsequence(consequence, 5000).polling(PollingStrategy.fixed(20)).evaluateFor(Actor.named("Jane"))
+        then:
+            thrown(AssertionError)
+            consequence.attempts == 1
+        and:
+            Thread.interrupted()
+    }
+
+    def "exceptions that are ignored should still be ignored with a different polling strategy"() {
+        given:
+            def consequence = new AlwaysFailsWith(new IllegalStateException("not ready"))
+        when:
+            new EventualConsequence(consequence, 100)
+                    .ignoringExceptions(IllegalStateException)
+                    .polling(PollingStrategy.fixed(20))
+                    .evaluateFor(Actor.named("Jane"))
+        then:
+            notThrown(IllegalStateException)
+            consequence.attempts > 1
+    }
+
+    def "the polling strategy should be kept when the timeout is changed"() {
+        given:
+            def consequence = new AlwaysFailsWith(new IllegalStateException("not ready"))
+        when:
+            new EventualConsequence(consequence, 5000, true)
+                    .polling(PollingStrategy.fixed(20))
+                    .waitingForNoLongerThan(200).milliseconds()
+                    .evaluateFor(Actor.named("Jane"))
+        then:
+            thrown(IllegalStateException)
+            consequence.attempts > 5
+    }
+
+    def "the reporting and ignored exceptions should be kept when the timeout is changed"() {
+        given:
+            def consequence = new AlwaysFailsWith(new IllegalStateException("not ready"))
+        when:
+            def eventualConsequence = new EventualConsequence(consequence, 5000, true)
+                    .ignoringExceptions(IllegalStateException)
+                    .polling(PollingStrategy.fixed(20))
+                    .waitingForNoLongerThan(100).milliseconds()
+            eventualConsequence.evaluateFor(Actor.named("Jane"))
+        then:
+            notThrown(IllegalStateException)
+            eventualConsequence.isSilent()
+    }
+
+    static class AlwaysFailsWith implements Consequence<Integer> {
+        final RuntimeException failure
+        int attempts = 0
+
+        AlwaysFailsWith(RuntimeException failure) {
+            this.failure = failure
+        }
+
+        @Override
+        void evaluateFor(Actor actor) {
+            attempts++
+            throw failure
+        }
+
+        @Override
+        Consequence<Integer> orComplainWith(Class<? extends Error> complaintType) { this }
+
+        @Override
+        Consequence<Integer> orComplainWith(Class<? extends Error> complaintType, String complaintDetails) { this }
+
+        @Override
+        Consequence<Integer> whenAttemptingTo(Performable performable) { this }
+
+        @Override
+        Consequence<Integer> because(String explanation) { this }
+    }
+
+    static class SucceedsOnTheThirdAttempt implements Consequence<Integer> {
+        int attempts = 0
+
+        @Override
+        void evaluateFor(Actor actor) {
+            if (++attempts < 3) {
+                throw new AssertionError("not yet")
+            }
+        }
+
+        @Override
+        Consequence<Integer> orComplainWith(Class<? extends Error> complaintType) { this }
+
+        @Override
+        Consequence<Integer> orComplainWith(Class<? extends Error> complaintType, String complaintDetails) { this }
+
+        @Override
+        Consequence<Integer> whenAttemptingTo(Performable performable) { this }
+
+        @Override
+        Consequence<Integer> because(String explanation) { this }
+
+        @Override
+        String toString() { "the third attempt" }
+    }
+}
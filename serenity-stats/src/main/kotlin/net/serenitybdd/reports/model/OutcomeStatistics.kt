@@ -0,0 +1,88 @@
+package net.serenitybdd.reports.model
+
+import net.thucydides.core.model.TestOutcome
+import java.time.Duration
+import java.time.Duration.ofMillis
+import java.time.ZonedDateTime
+import java.time.temporal.ChronoUnit
+
+/**
+ * Statistics about a set of test outcomes, worked out in a single pass over the outcomes
+ * rather than walking the outcomes once for each figure.
+ */
+class OutcomeStatistics(val testCount: Int,
+                        val totalDuration: Duration,
+                        val maxDuration: Duration,
+                        val minDuration: Duration,
+                        val averageDuration: Duration,
+                        val clockDuration: Duration,
+                        private val testCountByStory: Map<String?, Int>) {
+
+    /**
+     * The number of test runs (including rows in data-driven tests) in the user story with this name.
+     */
+    fun testCountForStory(storyName: String?): Int = testCountByStory[storyName] ?: 0
+
+    companion object {
+        @JvmStatic
+        fun of(outcomes: Collection<TestOutcome>): OutcomeStatistics {
+            val accumulator = OutcomeStatisticsAccumulator()
+            outcomes.forEach { outcome -> accumulator.add(outcome) }
+            return accumulator.statistics()
+        }
+    }
+}
+
+/**
+ * Collects the figures needed for the OutcomeStatistics one test outcome at a time.
+ */
+class OutcomeStatisticsAccumulator {
+
+    private var outcomeCount = 0
+    private var testCount = 0
+    private var totalDuration = 0L
+    private var maxDuration: Long? = null
+    private var minDuration: Long? = null
+    private var earliestStartTime: ZonedDateTime? = null
+    private var latestEndTime: ZonedDateTime? = null
+    private val testCountByStory = HashMap<String?, Int>()
+
+    fun add(outcome: TestOutcome): OutcomeStatisticsAccumulator {
+        outcomeCount++
+        testCount += outcome.testCount
+        totalDuration += outcome.duration
+
+        maxDuration = maxOf(maxDuration ?: Long.MIN_VALUE, maxDurationOf(outcome))
+        minDuration = minOf(minDuration ?: Long.MAX_VALUE, minDurationOf(outcome))
+
+        val startTime = outcome.startTime
+        if (startTime != null) {
+            earliestStartTime = earliestOf(earliestStartTime, startTime)
+            latestEndTime = latestOf(latestEndTime, outcome.endTime)
+        }
+
+        val storyName = outcome.userStory?.displayName
+        testCountByStory[storyName] = (testCountByStory[storyName] ?: 0) + outcome.testCount
+        return this
+    }
+
+    fun statistics(): OutcomeStatistics =
+            OutcomeStatistics(testCount,
+                              ofMillis(totalDuration),
+                              ofMillis(maxDuration ?: 0L),
+                              ofMillis(minDuration ?: 0L),
+                              ofMillis(if (outcomeCount == 0) 0 else totalDuration / outcomeCount),
+                              ofMillis(startToFinishTime()),
+                              HashMap(testCountByStory))
+
+    private fun earliestOf(time: ZonedDateTime?, otherTime: ZonedDateTime): ZonedDateTime =
+            if (time == null || otherTime < time) otherTime else time
+
+    private fun latestOf(time: ZonedDateTime?, otherTime: ZonedDateTime): ZonedDateTime =
+            if (time == null || otherTime > time) otherTime else time
+
+    private fun startToFinishTime(): Long =
+            if ((earliestStartTime != null) && (latestEndTime != null))
+                ChronoUnit.MILLIS.between(earliestStartTime, latestEndTime)
+            else 0
+}
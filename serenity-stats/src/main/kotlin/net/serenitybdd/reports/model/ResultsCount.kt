@@ -4,20 +4,27 @@ import net.thucydides.core.model.TestResult
 import net.thucydides.core.reports.TestOutcomes
 import net.thucydides.core.reports.html.ResultCounts
 
-fun countByResultLabelFrom(testOutcomes: TestOutcomes): Map<String, Int> {
+fun countByResultLabelFrom(testOutcomes: TestOutcomes): Map<String, Int> =
+        countByResultLabelFrom(ResultCounts.forOutcomesIn(testOutcomes))
+
+fun countByResultLabelFrom(resultCounts: ResultCounts): Map<String, Int> {
     return TestResult.values().associate { result -> Pair(result.toString(),
-                                                          ResultCounts.forOutcomesIn(testOutcomes).getOverallTestCount(result.toString()))
+                                                          resultCounts.getOverallTestCount(result.toString()))
     }
 }
 
 fun percentageByResultLabelFrom(testOutcomes: TestOutcomes): Map<String, Int> {
+    val resultCounts = ResultCounts.forOutcomesIn(testOutcomes)
     return TestResult.values().associate { result ->
-        Pair(result.toString(), ResultCounts.forOutcomesIn(testOutcomes).getOverallTestPercentage(result.toString()))
+        Pair(result.toString(), resultCounts.getOverallTestPercentage(result.toString()))
     }
 }
 
-fun percentageByResultFrom(testOutcomes: TestOutcomes): Map<String, Double> {
+fun percentageByResultFrom(testOutcomes: TestOutcomes): Map<String, Double> =
+        percentageByResultFrom(ResultCounts.forOutcomesIn(testOutcomes))
+
+fun percentageByResultFrom(resultCounts: ResultCounts): Map<String, Double> {
     return TestResult.values().associate { result ->
-        Pair(result.toString(), ResultCounts.forOutcomesIn(testOutcomes).getPreciseTestPercentage(result.toString()))
+        Pair(result.toString(), resultCounts.getPreciseTestPercentage(result.toString()))
     }
 }
@@ -5,6 +5,7 @@ import net.thucydides.core.model.TestResult.*
 import net.thucydides.core.model.TestTag
 import net.thucydides.core.reports.TestOutcomes
 import net.thucydides.core.reports.html.ReportNameProvider
+import net.thucydides.core.reports.html.ResultCounts
 import net.thucydides.core.reports.html.ResultIconFormatter
 import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.util.NameConverter.humanize
@@ -73,6 +74,7 @@ class CoverageByTagType(val tagType: String, val tagTitle : String, val testOutc
     private fun coverageFor(testTag: TestTag): CoverageByTag {
         val testOutcomesForTag = testOutcomes.withTag(testTag)
         val successRate = testOutcomesForTag.formattedPercentage.withResult(SUCCESS, 0)
+        val resultCounts = ResultCounts.forOutcomesIn(testOutcomesForTag)
 
         return CoverageByTag(
                 humanize(shortened(testTag.name)),
@@ -80,8 +82,8 @@ class CoverageByTagType(val tagType: String, val tagTitle : String, val testOutc
                 successRate,
                 testOutcomesForTag.result,
                 ReportNameProvider().forTag(testTag),
-                countByResultLabelFrom(testOutcomesForTag),
-                percentageByResultFrom(testOutcomesForTag)
+                countByResultLabelFrom(resultCounts),
+                percentageByResultFrom(resultCounts)
         )
     }
 
@@ -22,6 +22,8 @@ class UnstableFeaturesBuilder(val testOutcomes: TestOutcomes) {
 
     var parentNameProvider : ParentRequirementProvider = DummyParentRequirementProvider()
 
+    private val outcomeStatistics by lazy { OutcomeStatistics.of(testOutcomes.outcomes) }
+
     fun withRequirementsFrom(parentNameProvider : ParentRequirementProvider) : UnstableFeaturesBuilder {
         this.parentNameProvider = parentNameProvider
         return this
@@ -33,7 +35,7 @@ class UnstableFeaturesBuilder(val testOutcomes: TestOutcomes) {
                 .map { (userStoryName, outcomes) ->
                     UnstableFeature(userStoryName,
                             outcomes.size,
-                            percentageFailures(outcomes.size, userStoryName, testOutcomes),
+                            percentageFailures(outcomes.size, userStoryName),
                             featureReport(outcomes[0]))
                 }
                 .sortedWith(compareByDescending<UnstableFeature> { it.failurePercentage }
@@ -56,10 +58,8 @@ class UnstableFeaturesBuilder(val testOutcomes: TestOutcomes) {
 
     private fun isUnsuccessful(row: DataTableRow) = row.result == FAILURE || row.result == ERROR || row.result == COMPROMISED
 
-    private fun percentageFailures(failingScenarios: Int, userStoryName: String, testOutcomes: TestOutcomes): Int {
-        val totalScenarios = TestOutcomes.of(testOutcomes.outcomes.filter {
-                                                outcome -> userStoryName == outcome.userStory?.displayName }
-                                            ).total
+    private fun percentageFailures(failingScenarios: Int, userStoryName: String): Int {
+        val totalScenarios = outcomeStatistics.testCountForStory(userStoryName)
         return if (totalScenarios == 0) 0 else failingScenarios * 100 / totalScenarios
     }
 
@@ -0,0 +1,56 @@
+package net.serenitybdd.reports.model
+
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import java.time.Duration
+import java.time.ZonedDateTime
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WhenCalculatingOutcomeStatistics {
+
+    private val startTime = ZonedDateTime.now()
+
+    private fun outcomeIn(story: String, duration: Long, startedAfter: Long): TestOutcome {
+        val outcome = TestOutcome.forTestInStory("a test", Story.called(story))
+        outcome.setDuration(duration)
+        outcome.setStartTime(startTime.plusNanos(startedAfter * 1000000))
+        return outcome
+    }
+
+    @Test
+    fun `should work out the duration statistics in a single pass`() {
+        val outcomes = listOf(outcomeIn("apples", 100, 0), outcomeIn("apples", 300, 50), outcomeIn("pears", 200, 400))
+
+        val statistics = OutcomeStatistics.of(outcomes)
+
+        assertThat(statistics.totalDuration).isEqualTo(totalDurationOf(outcomes))
+        assertThat(statistics.maxDuration).isEqualTo(maxDurationOf(outcomes))
+        assertThat(statistics.minDuration).isEqualTo(minDurationOf(outcomes))
+        assertThat(statistics.averageDuration).isEqualTo(averageDurationOf(outcomes))
+        assertThat(statistics.clockDuration).isEqualTo(clockDurationOf(outcomes))
+    }
+
+    @Test
+    fun `should count the tests in each story`() {
+        val outcomes = listOf(outcomeIn("apples", 100, 0), outcomeIn("apples", 300, 50), outcomeIn("pears", 200, 400))
+
+        val statistics = OutcomeStatistics.of(outcomes)
+
+        assertThat(statistics.testCount).isEqualTo(3)
+        assertThat(statistics.testCountForStory(outcomes[0].userStory.displayName)).isEqualTo(2)
+        assertThat(statistics.testCountForStory(outcomes[2].userStory.displayName)).isEqualTo(1)
+        assertThat(statistics.testCountForStory("bananas")).isEqualTo(0)
+    }
+
+    @Test
+    fun `should report zero durations for no outcomes`() {
+        val statistics = OutcomeStatistics.of(listOf())
+
+        assertThat(statistics.maxDuration).isEqualTo(Duration.ZERO)
+        assertThat(statistics.averageDuration).isEqualTo(Duration.ZERO)
+        assertThat(statistics.clockDuration).isEqualTo(Duration.ZERO)
+    }
+}